@@ -0,0 +1,77 @@
+package io.github.seccoding.excel.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.hello.forum.bbs.vo.BoardVO;
+
+/**
+ * 벤치마크에 사용할 BoardVO 와 엑셀파일을 만든다.
+ * 값은 Row 번호로 만들어지므로 같은 Row 수라면 항상 같은 내용이다.
+ */
+final class BoardWorkbooks {
+
+	private BoardWorkbooks() {
+	}
+
+	/**
+	 * index 번째 게시글을 만든다.
+	 */
+	static BoardVO board(int index) {
+		BoardVO boardVO = new BoardVO();
+		boardVO.setId(index + 1);
+		boardVO.setEmail("user" + (index % 1000) + "@hello.com");
+		boardVO.setSubject("게시글 제목 " + index);
+		boardVO.setContent("게시글 내용입니다. Row " + index + " 의 본문.");
+		boardVO.setViewCnt(index % 500);
+		boardVO.setCrtDt("2024-01-" + String.format("%02d", index % 28 + 1));
+		boardVO.setMdfyDt("2024-02-" + String.format("%02d", index % 28 + 1));
+		boardVO.setOriginFileName(index % 10 == 0 ? "attachment" + index + ".pdf" : null);
+		return boardVO;
+	}
+
+	/**
+	 * rows 개의 게시글을 차례로 만든다. 모두 만들었다면 null 을 반환한다. (WriteOption.setContents(Supplier))
+	 */
+	static Supplier<BoardVO> boards(int rows) {
+		int[] next = { 0 };
+		return () -> next[0] < rows ? board(next[0]++) : null;
+	}
+
+	/**
+	 * BoardVO 의 &#64;Field 위치(A: 이메일, B: 제목, C: 내용)에 맞춰 rows 개의 게시글이 있는 xlsx 파일을 만든다.
+	 */
+	static Path writeImportFile(Path directory, int rows) throws IOException {
+		Path file = directory.resolve("board-" + rows + ".xlsx");
+
+		SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+		try (OutputStream outputStream = Files.newOutputStream(file)) {
+			Sheet sheet = workbook.createSheet("Sheet1");
+			Row title = sheet.createRow(0);
+			title.createCell(0).setCellValue("작성자 이메일");
+			title.createCell(1).setCellValue("제목");
+			title.createCell(2).setCellValue("내용");
+
+			for (int i = 0; i < rows; i++) {
+				BoardVO boardVO = board(i);
+				Row row = sheet.createRow(i + 1);
+				row.createCell(0).setCellValue(boardVO.getEmail());
+				row.createCell(1).setCellValue(boardVO.getSubject());
+				row.createCell(2).setCellValue(boardVO.getContent());
+			}
+			workbook.write(outputStream);
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+		return file;
+	}
+
+}
@@ -0,0 +1,99 @@
+package io.github.seccoding.excel.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hello.forum.bbs.vo.BoardVO;
+
+import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.option.WriteOption;
+import io.github.seccoding.excel.read.ExcelRead;
+import io.github.seccoding.excel.write.ExcelWrite;
+
+/**
+ * io.github.seccoding.excel 로 BoardVO 엑셀파일을 읽고 쓰는 성능을 측정한다.
+ *
+ * <pre>
+ * 실행: mvn -Pbenchmark compile exec:exec
+ *
+ * 처리량의 단위는 "엑셀파일 수 / 초" 이다. (Row 수 = rows)
+ * -prof gc 는 한 번 읽고 쓸 때의 할당량(gc.alloc.rate.norm)을,
+ * PeakHeapProfiler 는 Iteration 동안의 최대 Heap 사용량(peak.heap.used)을 기록한다.
+ * 결과는 target/jmh-result.json 에 저장되므로 변경 전후의 파일을 비교한다.
+ *
+ * 파일 전체를 메모리에 올리는 readToList 는 1,000,000 Row 에서 -Xmx2g 를 넘으므로
+ * 측정할 Row 수가 다른 ReadToListBenchmark 에서 따로 측정한다.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ExcelBenchmark {
+
+	@Param({ "10000", "100000", "1000000" })
+	private int rows;
+
+	private Path directory;
+
+	/**
+	 * 읽기 벤치마크에 사용할 엑셀파일
+	 */
+	private Path importFile;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.directory = Files.createTempDirectory("excel-benchmark-");
+		this.importFile = BoardWorkbooks.writeImportFile(this.directory,
+				this.rows);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile)
+					.forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public int readStream(Blackhole blackhole) {
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(this.importFile.toString());
+		return new ExcelRead<BoardVO>().readStream(readOption, BoardVO.class,
+				blackhole::consume);
+	}
+
+	@Benchmark
+	public File write() {
+		WriteOption<BoardVO> writeOption = new WriteOption<>();
+		writeOption.setFileName("write-" + this.rows + ".xlsx");
+		writeOption.setFilePath(this.directory.toString());
+		writeOption.setSheetName("Sheet1");
+		writeOption.setContents(BoardWorkbooks.boards(this.rows));
+		return ExcelWrite.write(writeOption);
+	}
+
+}
@@ -0,0 +1,67 @@
+package io.github.seccoding.excel.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Iteration 동안의 최대 Heap 사용량을 기록한다.
+ *
+ * <pre>
+ * Iteration 을 시작할 때 Heap 메모리 풀들의 최대 사용량을 초기화하고,
+ * 끝날 때 풀마다의 최대 사용량을 더해 peak.heap.used (MB) 로 기록한다.
+ * 풀마다 최대가 된 시점이 다를 수 있으므로 실제 최대 사용량보다 조금 클 수 있다.
+ * </pre>
+ */
+public class PeakHeapProfiler implements InternalProfiler {
+
+	@Override
+	public String getDescription() {
+		return "Peak heap usage per iteration";
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams,
+			IterationParams iterationParams) {
+		for (MemoryPoolMXBean pool : getHeapPools()) {
+			pool.resetPeakUsage();
+		}
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(
+			BenchmarkParams benchmarkParams, IterationParams iterationParams,
+			IterationResult result) {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : getHeapPools()) {
+			peak += pool.getPeakUsage().getUsed();
+		}
+
+		List<Result> results = new ArrayList<>();
+		results.add(new ScalarResult("peak.heap.used", peak / 1024.0 / 1024.0,
+				"MB", AggregationPolicy.MAX));
+		return results;
+	}
+
+	private List<MemoryPoolMXBean> getHeapPools() {
+		List<MemoryPoolMXBean> pools = new ArrayList<>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+				pools.add(pool);
+			}
+		}
+		return pools;
+	}
+
+}
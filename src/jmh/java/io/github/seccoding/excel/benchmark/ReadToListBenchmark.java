@@ -0,0 +1,75 @@
+package io.github.seccoding.excel.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hello.forum.bbs.vo.BoardVO;
+
+import io.github.seccoding.excel.read.ExcelRead;
+
+/**
+ * io.github.seccoding.excel 의 readToList 로 BoardVO 엑셀파일을 읽는 성능을 측정한다.
+ *
+ * <pre>
+ * readToList 는 Workbook 전체와 결과 List 를 메모리에 올리므로,
+ * 1,000,000 Row 는 -Xmx2g 에서 OutOfMemoryError 로 끝나 측정할 수 없다.
+ * ExcelBenchmark 와 같은 Heap 에서 비교할 수 있도록 100,000 Row 까지만 측정한다.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ReadToListBenchmark {
+
+	@Param({ "10000", "100000" })
+	private int rows;
+
+	private Path directory;
+
+	private Path importFile;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.directory = Files.createTempDirectory("excel-benchmark-");
+		this.importFile = BoardWorkbooks.writeImportFile(this.directory,
+				this.rows);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile)
+					.forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public List<BoardVO> readToList() {
+		return new ExcelRead<BoardVO>()
+				.readToList(this.importFile.toString(), BoardVO.class);
+	}
+
+}
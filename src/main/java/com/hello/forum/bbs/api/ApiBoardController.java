@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.hello.forum.bbs.service.BoardService;
+import com.hello.forum.bbs.service.ViewCountBuffer;
 import com.hello.forum.bbs.vo.BoardListVO;
 import com.hello.forum.bbs.vo.BoardVO;
 import com.hello.forum.bbs.vo.SearchBoardVO;
@@ -25,6 +26,8 @@ import com.hello.forum.member.vo.MemberVO;
 import com.hello.forum.utils.ApiResponse;
 import com.hello.forum.utils.ValidationUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/api/v1")
 public class ApiBoardController {
@@ -32,19 +35,37 @@ public class ApiBoardController {
 	@Autowired
 	private BoardService boardService;
 
+	@Autowired
+	private ViewCountBuffer viewCountBuffer;
+
+	/**
+	 * 게시글 목록을 조회한다. 목록에는 내용이 포함되지 않으며, excerptLength 를 전달하면 내용의 앞부분을 함께 조회한다.
+	 * (예: /api/v1/boards?excerptLength=100)
+	 */
 	@GetMapping("/boards")
 	public ApiResponse getBoardList(SearchBoardVO searchBoardVO) {
 		BoardListVO boardListVO = this.boardService
 				.searchAllBoard(searchBoardVO);
 
+		if (searchBoardVO.isSeekMode()) {
+			// afterId / beforeId 로 조회했다면 다음 페이지 여부를 조회 결과로 판단한다.
+			// 다음 페이지는 afterId=마지막 게시글 번호 로 요청한다.
+			// 전체 건수는 세지 않으므로 최근에 센 건수가 없다면 count 는 -1 이다.
+			return ApiResponse.OK(boardListVO.getBoardList(),
+					boardListVO.getBoardCnt(), searchBoardVO.getPageCount(),
+					boardListVO.isHasNext());
+		}
+
 		return ApiResponse.OK(boardListVO.getBoardList(),
 				boardListVO.getBoardCnt(), searchBoardVO.getPageCount(),
 				searchBoardVO.getPageNo() < searchBoardVO.getPageCount() - 1);
 	}
 
 	@GetMapping("/boards/{id}")
-	public ApiResponse getBoard(@PathVariable int id) {
-		BoardVO boardVO = this.boardService.getOneBoard(id, true);
+	public ApiResponse getBoard(@PathVariable int id,
+			HttpServletRequest request) {
+		BoardVO boardVO = this.boardService.getOneBoard(id, this.viewCountBuffer
+				.isCountable(request.getSession(false), id));
 		return ApiResponse.OK(boardVO, boardVO == null ? 0 : 1);
 	}
 
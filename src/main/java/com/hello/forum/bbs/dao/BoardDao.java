@@ -1,9 +1,14 @@
 package com.hello.forum.bbs.dao;
 
+import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+
 import com.hello.forum.bbs.vo.BoardVO;
 import com.hello.forum.bbs.vo.SearchBoardVO;
+import com.hello.forum.bbs.vo.ViewCountVO;
 
 public interface BoardDao {
 
@@ -25,6 +30,22 @@ public interface BoardDao {
 	 */
 	public List<BoardVO> getAllBoard();
 
+	/**
+	 * DB에 저장된 모든 게시글의 정보를 한 건씩 조회한다. 조회된 게시글을 List에 모으지 않으므로 게시글의 수와 관계없이
+	 * 메모리 사용량이 일정하다.
+	 * 
+	 * @param resultHandler 조회된 게시글을 한 건씩 처리할 Handler
+	 */
+	public void getAllBoard(ResultHandler<BoardVO> resultHandler);
+
+	/**
+	 * DB에 저장된 모든 게시글의 정보를 Cursor로 조회한다. 게시글은 Cursor를 읽을 때 한 건씩 가져온다.
+	 * Cursor는 SqlSession이 닫히면 함께 닫히므로, 반드시 Transaction 안에서 읽고 닫아야 한다.
+	 * 
+	 * @return 게시글 Cursor
+	 */
+	public Cursor<BoardVO> getAllBoardCursor();
+
 	/**
 	 * DB에 저장된 모든 게시글의 목록을 조회
 	 * 
@@ -33,6 +54,23 @@ public interface BoardDao {
 	 */
 	public List<BoardVO> searchAllBoard(SearchBoardVO searchBoardVO);
 
+	/**
+	 * 게시글의 목록과 검색된 전체 건수를 한 번의 쿼리로 조회한다. 전체 건수는 각 게시글의 totalCnt에 담긴다.
+	 * 
+	 * @param searchBoardVO 검색할 조건 (페이지 번호, 노출할 목록 개수 등)
+	 * @return DB에서 조회된 게시글의 목록
+	 */
+	public List<BoardVO> searchAllBoardWithCount(SearchBoardVO searchBoardVO);
+
+	/**
+	 * 게시글 번호(B.ID)를 기준으로 게시글의 목록을 조회한다. (Seek 페이지네이션) 다음 페이지의 존재 여부를 알 수 있도록
+	 * listSize 보다 한 건 더 조회한다.
+	 * 
+	 * @param searchBoardVO 검색할 조건 (afterId 혹은 beforeId, 노출할 목록 개수 등)
+	 * @return DB에서 조회된 게시글의 목록 (beforeId로 조회할 경우 게시글 번호의 오름차순)
+	 */
+	public List<BoardVO> searchAllBoardBySeek(SearchBoardVO searchBoardVO);
+
 	/**
 	 * 새로운 글을 데이터베이스에 저장한다.
 	 * 
@@ -41,6 +79,29 @@ public interface BoardDao {
 	 */
 	public int insertNewBoard(BoardVO boardVO);
 
+	/**
+	 * 새로운 글을 데이터베이스에 저장하고, 생성된 게시글 번호를 boardVO 의 id 에 할당한다.
+	 * 
+	 * @param boardVO 사용자가 입력한 글 정보
+	 * @return insert한 개수.
+	 */
+	public int insertNewBoardReturningId(BoardVO boardVO);
+
+	/**
+	 * 여러 게시글을 JDBC Batch로 등록한다. chunkSize 건씩 모아서 한 번에 전송한다.
+	 * 
+	 * <pre>
+	 * 트랜잭션 안에서 호출하면 트랜잭션과 함께 Commit/Rollback 되고, 트랜잭션 밖에서 호출하면 등록이 끝난 뒤 Commit 된다.
+	 * 같은 트랜잭션에서 다른 쿼리를 먼저 실행했더라도 호출할 수 있다. (BATCH Executor SqlSession을 따로 연다)
+	 * 등록에 실패한 게시글이 있더라도 나머지 게시글은 계속 등록한다.
+	 * </pre>
+	 * 
+	 * @param boardList 등록할 게시글의 목록
+	 * @param chunkSize 한 번에 전송할 게시글의 수
+	 * @return 게시글별 insert한 개수. boardList 와 같은 순서이다. (등록에 실패한 게시글은 0)
+	 */
+	public int[] insertManyBoard(List<BoardVO> boardList, int chunkSize);
+
 	/**
 	 * 전달받은 파라미터로 데이터베이스에서 게시글을 조회해 반환한다.
 	 * 
@@ -57,6 +118,14 @@ public interface BoardDao {
 	 */
 	public int increaseViewCount(int id);
 
+	/**
+	 * 여러 게시글의 조회수를 한 번의 쿼리로 증가시킨다.
+	 * 
+	 * @param viewCounts 게시글 번호와 증가시킬 조회수의 목록 (최대 1000건)
+	 * @return 업데이트 영향을 받은 데이터의 건수.
+	 */
+	public int increaseViewCounts(List<ViewCountVO> viewCounts);
+
 	/**
 	 * 전달받은 파라미터로 게시글 정보를 수정한다. 게시글이 수정될 때, 수정날짜도 변경이 된다.
 	 * 
@@ -77,4 +146,14 @@ public interface BoardDao {
 
 	public int deleteManyBoard(List<Integer> deleteItems);
 
+	/**
+	 * 검색 색인을 만들기 위해 게시글의 번호, 제목, 내용, 삭제여부를 한 건씩 조회한다.
+	 * 
+	 * @param modifiedSince 이 시간 이후 등록, 수정, 삭제된 게시글만 조회한다. null 이라면 삭제되지 않은 모든 게시글을
+	 *                      조회한다.
+	 * @param resultHandler 조회된 게시글을 한 건씩 처리할 Handler
+	 */
+	public void selectBoardForSearchIndex(Date modifiedSince,
+			ResultHandler<BoardVO> resultHandler);
+
 }
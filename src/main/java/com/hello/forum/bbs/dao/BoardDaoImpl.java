@@ -1,14 +1,27 @@
 package com.hello.forum.bbs.dao;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchExecutorException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.support.SqlSessionDaoSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import com.hello.forum.bbs.vo.BoardVO;
 import com.hello.forum.bbs.vo.SearchBoardVO;
+import com.hello.forum.bbs.vo.ViewCountVO;
 
 /**
  * DB에 쿼리를 전송 및 실행하고 결과를 받아오는 클래스.
@@ -22,6 +35,14 @@ import com.hello.forum.bbs.vo.SearchBoardVO;
 @Repository
 public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 
+	private Logger logger = LoggerFactory.getLogger(BoardDaoImpl.class);
+
+	/**
+	 * 대량 등록을 위한 BATCH Executor SqlSession을 만든다. 쿼리를 바로 실행하지 않고 모아두었다가
+	 * flushStatements() 할 때 한 번에 전송한다.
+	 */
+	private SqlSessionFactory sqlSessionFactory;
+
 	/*
 	 * @Autowired: Bean Container / DI(Dependency Injection) Bean Container :
 	 * Spring Framework가 객체들을 생성해서 보관하는 메모리 공간.
@@ -34,6 +55,7 @@ public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 	@Override
 	public void setSqlSessionTemplate(SqlSessionTemplate sqlSessionTemplate) {
 		super.setSqlSessionTemplate(sqlSessionTemplate);
+		this.sqlSessionFactory = sqlSessionTemplate.getSqlSessionFactory();
 	}
 
 	@Override
@@ -58,12 +80,37 @@ public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 		return getSqlSession().selectList(BoardDao.NAME_SPACE + ".getAllBoard");
 	}
 
+	@Override
+	public void getAllBoard(ResultHandler<BoardVO> resultHandler) {
+		getSqlSession().select(BoardDao.NAME_SPACE + ".getAllBoardForExport",
+				resultHandler);
+	}
+
+	@Override
+	public Cursor<BoardVO> getAllBoardCursor() {
+		return getSqlSession().selectCursor(
+				BoardDao.NAME_SPACE + ".getAllBoardForExport");
+	}
+
 	@Override
 	public List<BoardVO> searchAllBoard(SearchBoardVO searchBoardVO) {
 		return getSqlSession().selectList(
 				BoardDao.NAME_SPACE + ".searchAllBoard", searchBoardVO);
 	}
 
+	@Override
+	public List<BoardVO> searchAllBoardWithCount(SearchBoardVO searchBoardVO) {
+		return getSqlSession().selectList(
+				BoardDao.NAME_SPACE + ".searchAllBoardWithCount",
+				searchBoardVO);
+	}
+
+	@Override
+	public List<BoardVO> searchAllBoardBySeek(SearchBoardVO searchBoardVO) {
+		return getSqlSession().selectList(
+				BoardDao.NAME_SPACE + ".searchAllBoardBySeek", searchBoardVO);
+	}
+
 	@Override
 	public int insertNewBoard(BoardVO boardVO) {
 		/*
@@ -74,6 +121,111 @@ public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 				boardVO);
 	}
 
+	/**
+	 * Commit 이후 검색 색인에 등록할 수 있도록 생성된 게시글 번호를 boardVO의 id에 넣어준다.
+	 */
+	@Override
+	public int insertNewBoardReturningId(BoardVO boardVO) {
+		return getSqlSession().insert(
+				BoardDao.NAME_SPACE + ".insertNewBoardReturningId", boardVO);
+	}
+
+	/**
+	 * SqlSessionTemplate은 한 트랜잭션에서 Executor의 종류를 바꿀 수 없으므로(SIMPLE -> BATCH)
+	 * 호출할 때마다 BATCH Executor SqlSession을 따로 연다.
+	 * 
+	 * <pre>
+	 * Spring 트랜잭션 안에서 호출하면 같은 Connection을 사용하므로 트랜잭션과 함께 Commit/Rollback 된다.
+	 * 트랜잭션 밖에서 호출하면 모든 게시글을 전송한 뒤 직접 Commit 한다.
+	 * </pre>
+	 */
+	@Override
+	public int[] insertManyBoard(List<BoardVO> boardList, int chunkSize) {
+		try (SqlSession batchSqlSession = this.sqlSessionFactory
+				.openSession(ExecutorType.BATCH, false)) {
+			int[] insertedCounts = this.insertManyBoard(batchSqlSession,
+					boardList, chunkSize);
+			batchSqlSession.commit();
+			return insertedCounts;
+		}
+	}
+
+	private int[] insertManyBoard(SqlSession batchSqlSession,
+			List<BoardVO> boardList, int chunkSize) {
+		int[] insertedCounts = new int[boardList.size()];
+
+		int start = 0;
+		while (start < boardList.size()) {
+			int end = Math.min(start + chunkSize, boardList.size());
+			for (int i = start; i < end; i++) {
+				batchSqlSession.insert(BoardDao.NAME_SPACE + ".insertManyBoard",
+						boardList.get(i));
+			}
+
+			try {
+				int index = start;
+				for (BatchResult batchResult : batchSqlSession
+						.flushStatements()) {
+					for (int updateCount : batchResult.getUpdateCounts()) {
+						insertedCounts[index++] = toInsertedCount(updateCount);
+					}
+				}
+				start = end;
+			} catch (RuntimeException e) {
+				BatchUpdateException batchUpdateException = findBatchUpdateException(
+						e);
+				if (batchUpdateException == null) {
+					throw e;
+				}
+
+				int[] updateCounts = batchUpdateException.getUpdateCounts();
+				for (int i = 0; i < updateCounts.length; i++) {
+					insertedCounts[start + i] = updateCounts[i] == Statement.EXECUTE_FAILED
+							? 0
+							: toInsertedCount(updateCounts[i]);
+				}
+				logger.warn("게시글 대량 등록 중 일부 게시글을 등록하지 못했습니다. {}",
+						batchUpdateException.getMessage());
+
+				if (start + updateCounts.length < end) {
+					// Driver가 실패한 게시글에서 멈췄다면 이전 게시글만 등록되었다.
+					// 실패한 게시글 다음 게시글부터 다시 등록한다.
+					int failedIndex = start + updateCounts.length;
+					insertedCounts[failedIndex] = 0;
+					start = failedIndex + 1;
+				} else {
+					// Driver가 모든 게시글의 결과를 반환했다면 다음 chunk를 등록한다.
+					start = end;
+				}
+			}
+		}
+
+		return insertedCounts;
+	}
+
+	/**
+	 * JDBC Driver에 따라 등록된 건수 대신 SUCCESS_NO_INFO(-2)를 반환하기도 한다.
+	 */
+	private static int toInsertedCount(int updateCount) {
+		return updateCount == Statement.SUCCESS_NO_INFO ? 1
+				: Math.max(updateCount, 0);
+	}
+
+	private static BatchUpdateException findBatchUpdateException(
+			Throwable throwable) {
+		while (throwable != null) {
+			if (throwable instanceof BatchExecutorException) {
+				return ((BatchExecutorException) throwable)
+						.getBatchUpdateException();
+			}
+			if (throwable instanceof BatchUpdateException) {
+				return (BatchUpdateException) throwable;
+			}
+			throwable = throwable.getCause();
+		}
+		return null;
+	}
+
 	@Override
 	public BoardVO selectOneBoard(int id) {
 		return getSqlSession()
@@ -86,6 +238,12 @@ public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 				.update(BoardDao.NAME_SPACE + ".increaseViewCount", id);
 	}
 
+	@Override
+	public int increaseViewCounts(List<ViewCountVO> viewCounts) {
+		return getSqlSession().update(
+				BoardDao.NAME_SPACE + ".increaseViewCounts", viewCounts);
+	}
+
 	@Override
 	public int updateOneBoard(BoardVO boardVO) {
 		return getSqlSession().update(BoardDao.NAME_SPACE + ".updateOneBoard",
@@ -110,4 +268,12 @@ public class BoardDaoImpl extends SqlSessionDaoSupport implements BoardDao {
 				deleteItems);
 	}
 
+	@Override
+	public void selectBoardForSearchIndex(Date modifiedSince,
+			ResultHandler<BoardVO> resultHandler) {
+		getSqlSession().select(
+				BoardDao.NAME_SPACE + ".selectBoardForSearchIndex",
+				modifiedSince, resultHandler);
+	}
+
 }
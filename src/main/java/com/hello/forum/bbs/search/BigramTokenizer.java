@@ -0,0 +1,51 @@
+package com.hello.forum.bbs.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자열을 2글자 단위(Bigram)로 잘라 검색 색인의 토큰으로 만든다.
+ * 
+ * <pre>
+ * 한글은 형태소 분석 없이도 2글자 단위로 자르면 부분 문자열 검색이 가능하다.
+ * "게시판 검색" ==> "게시", "시판", "검색"
+ * 
+ * LIKE '%검색어%' 와 같은 결과를 찾을 수 있도록 
+ * 색인할 문장과 검색어를 같은 규칙으로 자른다.
+ * 검색어의 모든 토큰을 가진 게시글만 LIKE 검색어를 포함할 수 있다.
+ * </pre>
+ */
+public abstract class BigramTokenizer {
+
+	private BigramTokenizer() {
+
+	}
+
+	/**
+	 * 문자열을 Bigram 토큰으로 자른다. 대소문자를 구분하지 않으며, 공백이 포함된 토큰은 만들지 않는다.
+	 * 
+	 * @param text 색인할 문장 혹은 검색어
+	 * @return 중복이 제거된 토큰의 목록. 토큰을 만들 수 없다면 비어있는 Set
+	 */
+	public static Set<String> tokenize(String text) {
+		Set<String> tokens = new LinkedHashSet<>();
+		if (text == null || text.length() < 2) {
+			return tokens;
+		}
+
+		String normalized = text.toLowerCase(Locale.ROOT);
+		for (int i = 0; i < normalized.length() - 1; i++) {
+			char first = normalized.charAt(i);
+			char second = normalized.charAt(i + 1);
+			if (Character.isWhitespace(first)
+					|| Character.isWhitespace(second)) {
+				continue;
+			}
+			tokens.add(normalized.substring(i, i + 2));
+		}
+
+		return tokens;
+	}
+
+}
@@ -0,0 +1,365 @@
+package com.hello.forum.bbs.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hello.forum.bbs.dao.BoardDao;
+import com.hello.forum.bbs.vo.BoardVO;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 게시글의 제목, 내용을 검색하기 위한 애플리케이션 내부 전문 검색 색인.
+ * 
+ * <pre>
+ * LIKE '%검색어%' 는 인덱스를 사용할 수 없어 BOARD 전체를 읽는다.
+ * 이 색인으로 검색어를 포함할 수 있는 게시글 번호를 먼저 찾고
+ * DB에서는 찾은 게시글 번호 안에서만 LIKE 검색을 수행한다.
+ * 
+ * - 게시글이 등록, 수정, 삭제될 때 BoardServiceImpl 이 색인을 갱신한다.
+ * - 색인은 주기적으로, 그리고 애플리케이션이 종료될 때 디스크에 저장된다.
+ * - 애플리케이션이 시작되면 저장된 색인을 읽고, 저장된 이후 변경된 게시글만 다시 색인한다.
+ *   저장된 색인이 없거나 rebuild-on-startup 이 true 라면 DB에서 전체 게시글을 다시 색인한다.
+ * - 색인이 준비되지 않았다면 검색은 기존처럼 LIKE 로만 수행된다.
+ * </pre>
+ */
+@Component
+public class BoardSearchIndex {
+
+	private Logger logger = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+	/**
+	 * 저장된 색인 파일의 형식을 구분하기 위한 값
+	 */
+	private static final int FILE_VERSION = 1;
+
+	/**
+	 * 저장된 이후 변경된 게시글을 찾을 때, DB와 서버의 시간 차이를 감안해 여유를 둔다.
+	 */
+	private static final long CATCH_UP_MARGIN_MILLIS = 60 * 1000;
+
+	@Value("${app.board.search-index.enable:true}")
+	private boolean enable;
+
+	@Value("${app.board.search-index.path:${java.io.tmpdir}/hello-forum/board.idx}")
+	private String indexPath;
+
+	@Value("${app.board.search-index.rebuild-on-startup:false}")
+	private boolean rebuildOnStartup;
+
+	/**
+	 * 색인으로 찾은 게시글 번호가 이 값보다 많으면 색인을 사용하지 않고 LIKE 로만 검색한다.
+	 */
+	@Value("${app.board.search-index.max-candidates:5000}")
+	private int maxCandidates;
+
+	@Autowired
+	private BoardDao boardDao;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final InvertedIndex subjectIndex = new InvertedIndex();
+	private final InvertedIndex contentIndex = new InvertedIndex();
+
+	/**
+	 * 색인이 검색에 사용될 수 있는지 여부
+	 */
+	private volatile boolean ready;
+
+	/**
+	 * 저장된 이후 색인이 변경되었는지 여부
+	 */
+	private volatile boolean dirty;
+
+	/**
+	 * 애플리케이션이 시작되면 별도의 Thread에서 색인을 준비한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (!this.enable) {
+			return;
+		}
+
+		Thread thread = new Thread(this::loadOrRebuild, "board-search-index");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void loadOrRebuild() {
+		try {
+			File indexFile = new File(this.indexPath);
+			if (!this.rebuildOnStartup && indexFile.exists()) {
+				long savedAt = 0;
+				try {
+					savedAt = this.load(indexFile);
+				} catch (IOException e) {
+					logger.warn("저장된 게시글 검색 색인을 읽지 못했습니다. 색인을 다시 만듭니다.", e);
+					this.rebuild();
+					return;
+				}
+				this.catchUp(new Date(savedAt));
+			} else {
+				this.rebuild();
+			}
+		} catch (RuntimeException e) {
+			logger.error("게시글 검색 색인을 준비하지 못했습니다. LIKE 검색을 사용합니다.", e);
+		}
+	}
+
+	/**
+	 * DB에 저장된 모든 게시글로 색인을 다시 만든다. 색인이 만들어지는 동안에는 LIKE 로만 검색한다.
+	 */
+	public void rebuild() {
+		this.ready = false;
+
+		this.lock.writeLock().lock();
+		try {
+			this.subjectIndex.clear();
+			this.contentIndex.clear();
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+
+		this.boardDao.selectBoardForSearchIndex(null,
+				context -> this.apply(context.getResultObject()));
+
+		this.dirty = true;
+		this.ready = true;
+		logger.info("게시글 검색 색인을 만들었습니다. ({}건)", this.size());
+	}
+
+	/**
+	 * 특정 시간 이후 등록, 수정, 삭제된 게시글을 색인에 반영한다.
+	 * 
+	 * @param modifiedSince 이 시간 이후 변경된 게시글을 반영한다. (DB와의 시간 차이를 감안해 조금 더 이전부터 반영한다)
+	 */
+	public void catchUp(Date modifiedSince) {
+		Date since = new Date(
+				modifiedSince.getTime() - CATCH_UP_MARGIN_MILLIS);
+		this.boardDao.selectBoardForSearchIndex(since,
+				context -> this.apply(context.getResultObject()));
+
+		this.dirty = true;
+		this.ready = true;
+		logger.info("게시글 검색 색인을 준비했습니다. ({}건)", this.size());
+	}
+
+	private void apply(BoardVO boardVO) {
+		if ("Y".equals(boardVO.getDelYn())) {
+			this.remove(boardVO.getId());
+		} else {
+			this.put(boardVO);
+		}
+	}
+
+	/**
+	 * 게시글을 색인한다. 이미 색인된 게시글이라면 새로운 제목, 내용으로 다시 색인한다.
+	 * 
+	 * @param boardVO 색인할 게시글 (번호, 제목, 내용)
+	 */
+	public void put(BoardVO boardVO) {
+		this.lock.writeLock().lock();
+		try {
+			this.subjectIndex.put(boardVO.getId(), boardVO.getSubject());
+			this.contentIndex.put(boardVO.getId(), boardVO.getContent());
+			this.dirty = true;
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 게시글을 색인에서 지운다.
+	 * 
+	 * @param id 삭제된 게시글 번호
+	 */
+	public void remove(int id) {
+		this.remove(Collections.singletonList(id));
+	}
+
+	/**
+	 * 여러 게시글을 색인에서 지운다.
+	 * 
+	 * @param ids 삭제된 게시글 번호 목록
+	 */
+	public void remove(List<Integer> ids) {
+		this.lock.writeLock().lock();
+		try {
+			for (Integer id : ids) {
+				this.subjectIndex.remove(id);
+				this.contentIndex.remove(id);
+			}
+			this.dirty = true;
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어를 포함할 수 있는 게시글 번호를 찾는다. 찾은 게시글은 DB에서 LIKE 로 다시 확인해야 한다.
+	 * 
+	 * @param searchType    title, content, title_content
+	 * @param searchKeyword 검색어
+	 * @return 게시글 번호의 내림차순 목록. 색인을 사용할 수 없는 검색이라면 null (검색어에 %, _ 가 있는 경우 포함)
+	 */
+	public List<Integer> search(String searchType, String searchKeyword) {
+		if (!this.ready || searchType == null || searchKeyword == null) {
+			return null;
+		}
+
+		// LIKE 에서 %, _ 는 임의의 문자와 일치하지만 색인은 그대로 찾으므로, 검색 결과가 달라지지 않도록 LIKE 로만 검색한다.
+		if (searchKeyword.indexOf('%') >= 0 || searchKeyword.indexOf('_') >= 0) {
+			return null;
+		}
+
+		Set<Integer> matchedIds = null;
+
+		this.lock.readLock().lock();
+		try {
+			if (searchType.equals("title")) {
+				matchedIds = this.subjectIndex.search(searchKeyword);
+			} else if (searchType.equals("content")) {
+				matchedIds = this.contentIndex.search(searchKeyword);
+			} else if (searchType.equals("title_content")) {
+				Set<Integer> subjectIds = this.subjectIndex
+						.search(searchKeyword);
+				Set<Integer> contentIds = this.contentIndex
+						.search(searchKeyword);
+				if (subjectIds != null && contentIds != null) {
+					matchedIds = new HashSet<>(subjectIds);
+					matchedIds.addAll(contentIds);
+				}
+			}
+		} finally {
+			this.lock.readLock().unlock();
+		}
+
+		// 검색어가 너무 짧거나, 찾은 게시글이 너무 많다면 색인을 사용하지 않는다.
+		if (matchedIds == null || matchedIds.size() > this.maxCandidates) {
+			return null;
+		}
+
+		List<Integer> result = new ArrayList<>(matchedIds);
+		result.sort(Collections.reverseOrder());
+		return result;
+	}
+
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.subjectIndex.size();
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	public boolean isReady() {
+		return this.ready;
+	}
+
+	/**
+	 * 마지막으로 저장된 이후 변경된 색인이 있다면 디스크에 저장한다.
+	 */
+	@Scheduled(fixedDelayString = "${app.board.search-index.save-interval-ms:60000}")
+	public void saveIfDirty() {
+		if (this.enable && this.ready && this.dirty) {
+			this.save();
+		}
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 색인을 디스크에 저장한다.
+	 */
+	@PreDestroy
+	public void destroy() {
+		this.saveIfDirty();
+	}
+
+	/**
+	 * 색인을 디스크에 저장한다. 임시 파일에 저장한 뒤 교체하므로 저장 도중 종료되어도 기존 파일은 유지된다.
+	 */
+	public void save() {
+		File indexFile = new File(this.indexPath);
+		if (!indexFile.getParentFile().exists()) {
+			indexFile.getParentFile().mkdirs();
+		}
+
+		File tempFile = new File(indexFile.getParentFile(),
+				indexFile.getName() + ".tmp");
+
+		this.lock.readLock().lock();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new GZIPOutputStream(
+						new FileOutputStream(tempFile))))) {
+			out.writeInt(FILE_VERSION);
+			out.writeLong(System.currentTimeMillis());
+			this.subjectIndex.writeTo(out);
+			this.contentIndex.writeTo(out);
+			this.dirty = false;
+		} catch (IOException e) {
+			logger.error("게시글 검색 색인을 저장하지 못했습니다.", e);
+			return;
+		} finally {
+			this.lock.readLock().unlock();
+		}
+
+		try {
+			Files.move(tempFile.toPath(), indexFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.error("게시글 검색 색인을 저장하지 못했습니다.", e);
+			this.dirty = true;
+		}
+	}
+
+	/**
+	 * 디스크에 저장된 색인을 읽어온다.
+	 * 
+	 * @return 색인이 저장된 시간
+	 */
+	private long load(File indexFile) throws IOException {
+		this.lock.writeLock().lock();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new GZIPInputStream(new FileInputStream(indexFile))))) {
+			int version = in.readInt();
+			if (version != FILE_VERSION) {
+				throw new IOException("지원하지 않는 색인 파일입니다. (" + version + ")");
+			}
+			long savedAt = in.readLong();
+			this.subjectIndex.readFrom(in);
+			this.contentIndex.readFrom(in);
+			return savedAt;
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+}
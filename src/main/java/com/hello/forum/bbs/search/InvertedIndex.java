@@ -0,0 +1,165 @@
+package com.hello.forum.bbs.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토큰 ==> 게시글 번호 목록 형태의 역색인.
+ * 
+ * <pre>
+ * 게시글이 수정, 삭제될 때 기존 토큰을 지울 수 있도록 게시글 번호 ==> 토큰 목록도 함께 보관한다.
+ * 동시성 제어는 하지 않으므로 BoardSearchIndex 에서 Lock을 잡고 사용한다.
+ * </pre>
+ */
+class InvertedIndex {
+
+	/**
+	 * 토큰별 게시글 번호 목록
+	 */
+	private final Map<String, Posting> postings = new HashMap<>();
+
+	/**
+	 * 게시글 번호별 토큰 목록. 토큰 문자열을 중복해서 보관하지 않도록 Posting을 참조한다.
+	 */
+	private final Map<Integer, Posting[]> documents = new HashMap<>();
+
+	/**
+	 * 게시글을 색인한다. 이미 색인된 게시글이라면 기존 토큰을 지우고 다시 색인한다.
+	 * 
+	 * @param id   게시글 번호
+	 * @param text 색인할 문장
+	 */
+	void put(int id, String text) {
+		this.remove(id);
+		this.put(id, BigramTokenizer.tokenize(text));
+	}
+
+	private void put(int id, Set<String> tokens) {
+		if (tokens.isEmpty()) {
+			return;
+		}
+
+		Posting[] documentPostings = new Posting[tokens.size()];
+		int index = 0;
+		for (String token : tokens) {
+			Posting posting = this.postings.get(token);
+			if (posting == null) {
+				posting = new Posting(token);
+				this.postings.put(token, posting);
+			}
+			posting.ids.add(id);
+			documentPostings[index++] = posting;
+		}
+
+		this.documents.put(id, documentPostings);
+	}
+
+	/**
+	 * 게시글을 색인에서 지운다.
+	 * 
+	 * @param id 게시글 번호
+	 */
+	void remove(int id) {
+		Posting[] documentPostings = this.documents.remove(id);
+		if (documentPostings == null) {
+			return;
+		}
+
+		for (Posting posting : documentPostings) {
+			posting.ids.remove(id);
+			if (posting.ids.isEmpty()) {
+				this.postings.remove(posting.token);
+			}
+		}
+	}
+
+	/**
+	 * 검색어의 모든 토큰을 가진 게시글 번호를 찾는다.
+	 * 
+	 * @param keyword 검색어
+	 * @return 검색어를 포함할 수 있는 게시글 번호. 검색어로 토큰을 만들 수 없다면 null
+	 */
+	Set<Integer> search(String keyword) {
+		Set<String> tokens = BigramTokenizer.tokenize(keyword);
+		if (tokens.isEmpty()) {
+			return null;
+		}
+
+		List<Set<Integer>> matchedIds = new ArrayList<>();
+		for (String token : tokens) {
+			Posting posting = this.postings.get(token);
+			if (posting == null) {
+				return new HashSet<>();
+			}
+			matchedIds.add(posting.ids);
+		}
+
+		// 가장 작은 목록부터 교집합을 구한다.
+		matchedIds.sort((a, b) -> a.size() - b.size());
+		Set<Integer> result = new HashSet<>(matchedIds.get(0));
+		for (int i = 1; i < matchedIds.size() && !result.isEmpty(); i++) {
+			result.retainAll(matchedIds.get(i));
+		}
+
+		return result;
+	}
+
+	void clear() {
+		this.postings.clear();
+		this.documents.clear();
+	}
+
+	int size() {
+		return this.documents.size();
+	}
+
+	/**
+	 * 색인을 저장한다. 게시글 번호별 토큰 목록만 저장하고, 토큰별 게시글 번호 목록은 읽어올 때 다시 만든다.
+	 */
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(this.documents.size());
+		for (Map.Entry<Integer, Posting[]> document : this.documents
+				.entrySet()) {
+			out.writeInt(document.getKey());
+			out.writeInt(document.getValue().length);
+			for (Posting posting : document.getValue()) {
+				out.writeUTF(posting.token);
+			}
+		}
+	}
+
+	/**
+	 * writeTo 로 저장한 색인을 읽어온다. 기존 색인은 지워진다.
+	 */
+	void readFrom(DataInput in) throws IOException {
+		this.clear();
+
+		int documentCount = in.readInt();
+		for (int i = 0; i < documentCount; i++) {
+			int id = in.readInt();
+			int tokenCount = in.readInt();
+			Set<String> tokens = new HashSet<>();
+			for (int j = 0; j < tokenCount; j++) {
+				tokens.add(in.readUTF());
+			}
+			this.put(id, tokens);
+		}
+	}
+
+	private static class Posting {
+		private final String token;
+		private final Set<Integer> ids = new HashSet<>();
+
+		private Posting(String token) {
+			this.token = token;
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.hello.forum.bbs.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hello.forum.bbs.vo.BoardVO;
+import com.hello.forum.member.vo.MemberVO;
+
+/**
+ * 게시글 번호별로 조회한 게시글을 보관한다.
+ * 
+ * <pre>
+ * 게시글 조회, 수정, 삭제 과정에서 같은 게시글을 여러 번 조회하지 않도록
+ * 최근에 조회된 게시글을 max-size 개까지, ttl-seconds 동안 보관한다.
+ * 가장 오래 사용되지 않은 게시글부터 지운다. (LRU)
+ * 게시글이 수정, 삭제되면 보관중인 게시글을 지운다.
+ * 게시글에는 작성자(MemberVO)의 정보도 함께 보관하므로 회원 정보가 바뀌거나 탈퇴하면
+ * 그 회원이 작성한 게시글도 지운다.
+ * 
+ * 보관중인 게시글을 호출한 쪽에서 수정하지 못하도록 항상 복사해서 반환한다.
+ * 조회수는 ViewCountBuffer 가 DB에 반영할 때 함께 증가시킨다.
+ * </pre>
+ */
+@Component
+public class BoardCache {
+
+	@Value("${app.board.cache.ttl-seconds:60}")
+	private long ttlSeconds;
+
+	@Value("${app.board.cache.max-size:1000}")
+	private int maxSize;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * accessOrder 가 true 인 LinkedHashMap 은 가장 오래 사용되지 않은 게시글부터 순회한다.
+	 */
+	private final Map<Integer, CachedBoard> boards = new LinkedHashMap<>(16,
+			0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<Integer, CachedBoard> eldest) {
+			return this.size() > BoardCache.this.maxSize;
+		}
+	};
+
+	/**
+	 * 보관중인 게시글을 가져온다.
+	 * 
+	 * @param id 게시글 번호
+	 * @return 게시글의 복사본. 보관중인 게시글이 없거나 만료되었다면 null
+	 */
+	public BoardVO get(int id) {
+		CachedBoard cachedBoard = null;
+		synchronized (this.boards) {
+			cachedBoard = this.boards.get(id);
+			if (cachedBoard != null
+					&& cachedBoard.isExpired(System.currentTimeMillis())) {
+				this.boards.remove(id);
+				cachedBoard = null;
+			}
+		}
+
+		if (cachedBoard == null) {
+			this.missCount.increment();
+			return null;
+		}
+
+		this.hitCount.increment();
+		return copy(cachedBoard.boardVO);
+	}
+
+	/**
+	 * 조회한 게시글을 보관한다.
+	 * 
+	 * @param boardVO DB에서 조회한 게시글
+	 */
+	public void put(BoardVO boardVO) {
+		CachedBoard cachedBoard = new CachedBoard(copy(boardVO),
+				System.currentTimeMillis() + this.ttlSeconds * 1000);
+		synchronized (this.boards) {
+			this.boards.put(boardVO.getId(), cachedBoard);
+		}
+	}
+
+	/**
+	 * 보관중인 게시글의 조회수를 증가시킨다. 조회수가 DB에 반영될 때 호출한다.
+	 * 
+	 * @param id       게시글 번호
+	 * @param increase 증가된 조회수
+	 */
+	public void increaseViewCount(int id, long increase) {
+		synchronized (this.boards) {
+			CachedBoard cachedBoard = this.boards.get(id);
+			if (cachedBoard != null) {
+				BoardVO boardVO = cachedBoard.boardVO;
+				boardVO.setViewCnt(boardVO.getViewCnt() + (int) increase);
+			}
+		}
+	}
+
+	/**
+	 * 보관중인 게시글을 지운다. 게시글이 수정, 삭제될 때 호출한다.
+	 * 
+	 * @param id 게시글 번호
+	 */
+	public void invalidate(int id) {
+		synchronized (this.boards) {
+			this.boards.remove(id);
+		}
+	}
+
+	/**
+	 * 회원이 작성한 게시글을 모두 지운다. 회원 정보가 바뀌거나 회원이 탈퇴할 때 호출한다.
+	 * 
+	 * @param email 회원의 이메일
+	 */
+	public void invalidateByEmail(String email) {
+		synchronized (this.boards) {
+			this.boards.values().removeIf(
+					cachedBoard -> email.equals(cachedBoard.boardVO.getEmail()));
+		}
+	}
+
+	/**
+	 * 보관중인 모든 게시글을 지운다.
+	 */
+	public void invalidateAll() {
+		synchronized (this.boards) {
+			this.boards.clear();
+		}
+	}
+
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	public int getSize() {
+		synchronized (this.boards) {
+			return this.boards.size();
+		}
+	}
+
+	@Override
+	public String toString() {
+		long hit = this.getHitCount();
+		long miss = this.getMissCount();
+		long total = hit + miss;
+		return "BoardCache [size=" + this.getSize() + ", hit=" + hit
+				+ ", miss=" + miss + ", hitRatio="
+				+ (total == 0 ? 0 : hit * 100 / total) + "%]";
+	}
+
+	private static BoardVO copy(BoardVO boardVO) {
+		BoardVO copied = new BoardVO();
+		copied.setId(boardVO.getId());
+		copied.setSubject(boardVO.getSubject());
+		copied.setContent(boardVO.getContent());
+		copied.setEmail(boardVO.getEmail());
+		copied.setViewCnt(boardVO.getViewCnt());
+		copied.setCrtDt(boardVO.getCrtDt());
+		copied.setMdfyDt(boardVO.getMdfyDt());
+		copied.setFileName(boardVO.getFileName());
+		copied.setOriginFileName(boardVO.getOriginFileName());
+		copied.setDelYn(boardVO.getDelYn());
+
+		MemberVO memberVO = boardVO.getMemberVO();
+		if (memberVO != null) {
+			MemberVO copiedMemberVO = new MemberVO();
+			copiedMemberVO.setEmail(memberVO.getEmail());
+			copiedMemberVO.setName(memberVO.getName());
+			copied.setMemberVO(copiedMemberVO);
+		}
+		return copied;
+	}
+
+	private static class CachedBoard {
+		private final BoardVO boardVO;
+		private final long expireAt;
+
+		private CachedBoard(BoardVO boardVO, long expireAt) {
+			this.boardVO = boardVO;
+			this.expireAt = expireAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= this.expireAt;
+		}
+	}
+
+}
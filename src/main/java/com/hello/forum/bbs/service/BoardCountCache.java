@@ -0,0 +1,125 @@
+package com.hello.forum.bbs.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hello.forum.bbs.vo.SearchBoardVO;
+
+/**
+ * 게시글 검색 결과의 건수를 짧은 시간동안 보관한다.
+ * 
+ * <pre>
+ * 같은 검색 조건으로 페이지를 이동할 때마다 BOARD x MEMBERS 전체를 다시 세지 않도록
+ * (searchType, searchKeyword) 를 Key로 건수를 보관한다.
+ * 게시글이 등록, 수정, 삭제되면 모든 건수를 무효화한다.
+ * </pre>
+ */
+@Component
+public class BoardCountCache {
+
+	/**
+	 * searchBoardAllCount 쿼리가 검색 조건으로 사용하는 searchType
+	 */
+	private static final Set<String> SEARCH_TYPES = Set.of("title", "content",
+			"title_content", "email");
+
+	/**
+	 * 검색 조건이 없을 때 사용하는 Key
+	 */
+	private static final String ALL = "";
+
+	@Value("${app.board.count-cache.ttl-seconds:10}")
+	private long ttlSeconds;
+
+	@Value("${app.board.count-cache.max-size:1000}")
+	private int maxSize;
+
+	private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+	/**
+	 * 보관중인 검색 결과의 건수를 가져온다.
+	 * 
+	 * @param searchBoardVO 검색 조건
+	 * @return 검색 결과의 건수. 보관중인 건수가 없거나 만료되었다면 null
+	 */
+	public Integer get(SearchBoardVO searchBoardVO) {
+		String key = this.makeKey(searchBoardVO);
+		CachedCount cachedCount = this.counts.get(key);
+		if (cachedCount == null) {
+			return null;
+		}
+
+		if (cachedCount.isExpired(System.currentTimeMillis())) {
+			this.counts.remove(key, cachedCount);
+			return null;
+		}
+
+		return cachedCount.count;
+	}
+
+	/**
+	 * 검색 결과의 건수를 보관한다.
+	 * 
+	 * @param searchBoardVO 검색 조건
+	 * @param count         검색 결과의 건수
+	 */
+	public void put(SearchBoardVO searchBoardVO, int count) {
+		long now = System.currentTimeMillis();
+
+		if (this.counts.size() >= this.maxSize) {
+			this.counts.values().removeIf(cached -> cached.isExpired(now));
+			if (this.counts.size() >= this.maxSize) {
+				this.counts.clear();
+			}
+		}
+
+		this.counts.put(this.makeKey(searchBoardVO),
+				new CachedCount(count, now + this.ttlSeconds * 1000));
+	}
+
+	/**
+	 * 보관중인 모든 건수를 무효화한다. 게시글이 등록, 수정, 삭제될 때 호출한다.
+	 */
+	public void invalidateAll() {
+		this.counts.clear();
+	}
+
+	/**
+	 * 검색 조건을 Key로 만든다. 쿼리에서 같은 조건으로 처리되는 검색 조건은 같은 Key를 만든다.
+	 * 
+	 * <pre>
+	 * 검색어가 없거나 알 수 없는 searchType 이라면 전체 게시글을 세므로 ALL 로 처리한다.
+	 * 검색어는 LIKE 조건에 그대로 사용되므로 변경하지 않는다.
+	 * </pre>
+	 */
+	private String makeKey(SearchBoardVO searchBoardVO) {
+		String searchKeyword = searchBoardVO.getSearchKeyword();
+		String searchType = searchBoardVO.getSearchType();
+
+		if (searchKeyword == null || searchKeyword.length() == 0
+				|| !SEARCH_TYPES.contains(searchType)) {
+			return ALL;
+		}
+
+		return searchType + "\u0000" + searchKeyword;
+	}
+
+	private static class CachedCount {
+		private final int count;
+		private final long expireAt;
+
+		private CachedCount(int count, long expireAt) {
+			this.count = count;
+			this.expireAt = expireAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= this.expireAt;
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.hello.forum.bbs.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.hello.forum.bbs.vo.BoardImportJobVO;
+import com.hello.forum.exceptions.TooManyImportJobsException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 엑셀파일로 게시글을 대량등록하는 작업을 별도의 Thread에서 실행한다.
+ * 
+ * <pre>
+ * 대량등록은 파일을 읽고 수만 건을 등록하는 동안 요청 Thread를 붙잡아두므로
+ * 요청 Thread는 파일을 저장하고 작업 번호만 반환한다.
+ * 작업은 max-concurrent 개의 Thread에서 실행되며, 대기할 수 있는 작업은 queue-size 개까지이다.
+ * 대기열이 가득 차면 TooManyImportJobsException 을 던진다.
+ * 끝난 작업의 결과는 retention-minutes 동안 조회할 수 있다.
+ * 
+ * 업로드된 파일은 첨부파일 폴더가 아닌 임시 폴더에 옮겨두고, 작업이 끝나면(실패 포함) 지운다.
+ * </pre>
+ */
+@Component
+public class BoardImportJobManager {
+
+	private Logger logger = LoggerFactory.getLogger(BoardImportJobManager.class);
+
+	@Value("${app.board.import.max-concurrent:2}")
+	private int maxConcurrent;
+
+	@Value("${app.board.import.queue-size:8}")
+	private int queueSize;
+
+	@Value("${app.board.import.retention-minutes:60}")
+	private long retentionMinutes;
+
+	@Autowired
+	private BoardService boardService;
+
+	private final Map<String, BoardImportJobVO> jobs = new ConcurrentHashMap<>();
+
+	private ThreadPoolExecutor executor;
+
+	@PostConstruct
+	public void initialize() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable,
+					"board-import-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+
+		this.executor = new ThreadPoolExecutor(this.maxConcurrent,
+				this.maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(this.queueSize), threadFactory,
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@PreDestroy
+	public void destroy() {
+		this.executor.shutdown();
+	}
+
+	/**
+	 * 엑셀파일을 저장하고 대량등록 작업을 대기열에 등록한다.
+	 * 
+	 * @param excelFile 사용자가 업로드한 엑셀파일
+	 * @param email     작업을 요청한 사용자의 이메일
+	 * @return 등록된 작업. 엑셀파일을 저장하지 못했다면 null
+	 */
+	public BoardImportJobVO submit(MultipartFile excelFile, String email) {
+		if (excelFile == null || excelFile.isEmpty()) {
+			return null;
+		}
+
+		// 요청이 끝나면 업로드된 임시 파일이 삭제되므로 작업을 등록하기 전에 옮겨둔다.
+		Path excelFilePath = this.moveToTempFile(excelFile);
+		if (excelFilePath == null) {
+			return null;
+		}
+
+		BoardImportJobVO importJobVO = new BoardImportJobVO(
+				UUID.randomUUID().toString(), email);
+		this.jobs.put(importJobVO.getJobId(), importJobVO);
+
+		try {
+			this.executor.execute(() -> this.run(importJobVO, excelFilePath));
+		} catch (RejectedExecutionException e) {
+			this.jobs.remove(importJobVO.getJobId());
+			this.deleteTempFile(excelFilePath);
+			throw new TooManyImportJobsException();
+		}
+
+		return importJobVO;
+	}
+
+	private void run(BoardImportJobVO importJobVO, Path excelFilePath) {
+		importJobVO.setStatus(BoardImportJobVO.RUNNING);
+		try {
+			this.boardService.createMassiveBoard2(excelFilePath.toString(),
+					importJobVO);
+			importJobVO.setStatus(BoardImportJobVO.DONE);
+		} catch (RuntimeException e) {
+			logger.error("게시글 대량등록 작업이 실패했습니다. (" + importJobVO.getJobId()
+					+ ")", e);
+			importJobVO.setErrorMessage(e.getMessage());
+			importJobVO.setStatus(BoardImportJobVO.FAILED);
+		} finally {
+			this.deleteTempFile(excelFilePath);
+		}
+	}
+
+	/**
+	 * 업로드된 파일을 임시 폴더로 옮긴다. 가능하다면 복사하지 않고 파일의 위치만 바꾼다.
+	 * 
+	 * @param excelFile 사용자가 업로드한 엑셀파일
+	 * @return 옮겨진 파일의 경로. 옮기지 못했다면 null
+	 */
+	private Path moveToTempFile(MultipartFile excelFile) {
+		Path tempFile = null;
+		try {
+			// 확장자로 xls, xlsx 를 구분하므로 원래 파일의 확장자를 유지한다.
+			String fileName = excelFile.getOriginalFilename();
+			String extension = fileName != null && fileName.toLowerCase()
+					.endsWith(".xls") ? ".xls" : ".xlsx";
+
+			tempFile = Files.createTempFile("board-import-", extension);
+			excelFile.transferTo(tempFile);
+			return tempFile;
+		} catch (IOException | IllegalStateException e) {
+			logger.error(e.getMessage(), e);
+			this.deleteTempFile(tempFile);
+			return null;
+		}
+	}
+
+	private void deleteTempFile(Path tempFile) {
+		if (tempFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFile);
+		} catch (IOException e) {
+			logger.warn("임시 파일을 지우지 못했습니다. ({})", tempFile, e);
+		}
+	}
+
+	/**
+	 * 작업의 진행상황을 조회한다.
+	 * 
+	 * @param jobId 작업 번호
+	 * @return 작업. 없는 작업이거나 보관기간이 지났다면 null
+	 */
+	public BoardImportJobVO getJob(String jobId) {
+		return this.jobs.get(jobId);
+	}
+
+	/**
+	 * 보관기간이 지난 작업을 지운다.
+	 */
+	@Scheduled(fixedDelay = 60 * 1000)
+	public void removeExpiredJobs() {
+		long expireAt = System.currentTimeMillis()
+				- this.retentionMinutes * 60 * 1000;
+		this.jobs.values().removeIf(importJobVO -> importJobVO.isFinished()
+				&& importJobVO.getFinishedAt() < expireAt);
+	}
+
+}
@@ -0,0 +1,426 @@
+package com.hello.forum.bbs.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hello.forum.bbs.dao.BoardDao;
+import com.hello.forum.bbs.vo.BoardImportJobVO;
+import com.hello.forum.bbs.vo.BoardImportRejectedRowVO;
+import com.hello.forum.bbs.vo.BoardImportResultVO;
+import com.hello.forum.bbs.vo.BoardVO;
+import com.hello.forum.utils.ValidationUtils;
+
+import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.read.ExcelRead;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 엑셀파일의 게시글을 읽기, 검증, 등록 세 단계로 나눠 동시에 처리한다.
+ *
+ * <pre>
+ * 1. 읽기: 요청한 Thread가 엑셀파일을 한 Row씩 읽어 batch-size 건씩 묶고, 묶음마다 순번을 매긴다.
+ *    &#64;Require 컬럼이 비어있는 Row에서 멈추지 않고 검증 단계로 넘기며, 값이 하나도 없는 Row는 건너뛴다.
+ * 2. 검증: validate-threads 개의 Thread가 묶음마다 게시글 규칙(이메일, 제목, 내용)을 검사한다.
+ * 3. 등록: 한 개의 Thread가 검증된 묶음을 순번대로 JDBC Batch로 등록하고, 묶음마다 Commit 한다.
+ *    검증이 먼저 끝난 묶음은 앞선 묶음이 등록될 때까지 기다리므로, 게시글은 엑셀파일의 순서대로 등록된다.
+ *
+ * 단계 사이의 대기열은 queue-capacity 개의 묶음만 보관하고, 등록되지 않은 묶음은 (queue-capacity * 2 + validate-threads + 1) 개까지만 만든다.
+ * 등록이 늦어지면 읽기가 멈추므로, 메모리에는 최대 (queue-capacity * 2 + validate-threads + 2) 개의 묶음만 유지된다.
+ *
+ * 묶음마다 Commit 하므로 중간에 작업이 실패해도 이미 등록된 게시글은 유지된다.
+ * 검증을 통과하지 못한 게시글은 등록하지 않고 rejectedRows 로, 등록에 실패한 게시글은 failedRows 로 엑셀의 Row 번호와 함께 알려준다.
+ * </pre>
+ */
+@Component
+public class BoardImportPipeline {
+
+	/**
+	 * 대량 등록 시 한 번에 전송할 게시글의 수
+	 */
+	@Value("${app.board.import.batch-size:1000}")
+	private int importBatchSize;
+
+	/**
+	 * 게시글을 검증할 Thread의 수
+	 */
+	@Value("${app.board.import.validate-threads:2}")
+	private int validateThreads;
+
+	/**
+	 * 단계 사이의 대기열에 보관할 묶음의 수
+	 */
+	@Value("${app.board.import.queue-capacity:4}")
+	private int queueCapacity;
+
+	@Autowired
+	private BoardDao boardDao;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	/**
+	 * 묶음마다 새로운 트랜잭션으로 등록한다.
+	 */
+	private TransactionTemplate chunkTransaction;
+
+	@PostConstruct
+	public void initialize() {
+		this.chunkTransaction = new TransactionTemplate(this.transactionManager);
+		this.chunkTransaction.setPropagationBehavior(
+				TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 엑셀파일의 게시글을 등록한다.
+	 *
+	 * @param readOption  읽을 엑셀파일. 파일의 경로 혹은 업로드된 파일의 InputStream
+	 * @param importJobVO 진행상황을 기록할 작업. 기록하지 않는다면 null
+	 * @return 게시글별 등록 결과
+	 */
+	public BoardImportResultVO run(ReadOption readOption,
+			BoardImportJobVO importJobVO) {
+		Run run = new Run(importJobVO);
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable,
+					"board-import-stage-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		ExecutorService stages = Executors
+				.newFixedThreadPool(this.validateThreads + 1, threadFactory);
+
+		try {
+			for (int i = 0; i < this.validateThreads; i++) {
+				stages.execute(() -> run.stage(run::validate));
+			}
+			stages.execute(() -> {
+				try {
+					run.stage(run::write);
+				} finally {
+					run.writerDone.countDown();
+				}
+			});
+
+			run.stage(() -> run.read(readOption));
+			run.awaitWriter();
+		} finally {
+			stages.shutdownNow();
+		}
+
+		run.throwIfFailed();
+		return run.importResultVO;
+	}
+
+	/**
+	 * 게시글 규칙을 검사한다.
+	 *
+	 * @return 통과하지 못한 이유. 통과했다면 null
+	 */
+	private String validate(BoardVO boardVO) {
+		if (!ValidationUtils.notEmpty(boardVO.getEmail())) {
+			return "작성자 이메일은 필수 입력 값입니다.";
+		}
+		if (!ValidationUtils.email(boardVO.getEmail())) {
+			return "작성자 이메일의 형태가 올바르지 않습니다.";
+		}
+		if (!ValidationUtils.notEmpty(boardVO.getSubject())) {
+			return "제목은 필수 입력 값입니다.";
+		}
+		if (!ValidationUtils.notEmpty(boardVO.getContent())) {
+			return "내용은 필수 입력 값입니다.";
+		}
+		return null;
+	}
+
+	/**
+	 * batch-size 건의 게시글 묶음
+	 */
+	private static class Chunk {
+
+		/**
+		 * 검증이 끝났음을 알리는 묶음
+		 */
+		private static final Chunk END = new Chunk(-1);
+
+		/**
+		 * 묶음의 순번 (0부터 시작). 등록 단계는 이 순서대로 등록한다.
+		 */
+		private final int sequence;
+
+		/**
+		 * 게시글과 엑셀의 Row 번호 (1부터 시작)
+		 */
+		private final List<BoardVO> rows = new ArrayList<>();
+		private final List<Integer> rowNumbers = new ArrayList<>();
+
+		/**
+		 * 검증을 통과한 게시글과 그 Row 번호
+		 */
+		private final List<BoardVO> validRows = new ArrayList<>();
+		private final List<Integer> validRowNumbers = new ArrayList<>();
+
+		private final List<BoardImportRejectedRowVO> rejectedRows = new ArrayList<>();
+
+		private Chunk(int sequence) {
+			this.sequence = sequence;
+		}
+	}
+
+	/**
+	 * 엑셀파일 하나를 등록하는 동안 단계들이 공유하는 상태.
+	 */
+	private class Run {
+
+		private final BlockingQueue<Chunk> parsedQueue = new ArrayBlockingQueue<>(
+				queueCapacity);
+		private final BlockingQueue<Chunk> validatedQueue = new ArrayBlockingQueue<>(
+				queueCapacity);
+
+		/**
+		 * 만들 수 있는 묶음의 수. 읽기 단계가 묶음을 넘기기 전에 얻고, 등록 단계가 등록을 마친 뒤 돌려준다.
+		 * 등록 단계가 순서를 맞추기 위해 기다리는 묶음의 수도 이 수를 넘지 않는다.
+		 */
+		private final Semaphore chunkPermits = new Semaphore(
+				queueCapacity * 2 + validateThreads + 1);
+
+		private final BoardImportJobVO importJobVO;
+
+		/**
+		 * 등록 단계만 변경한다.
+		 */
+		private final BoardImportResultVO importResultVO = new BoardImportResultVO();
+
+		/**
+		 * 어느 한 단계라도 실패하면 기록하고, 나머지 단계는 대기를 멈춘다.
+		 */
+		private volatile RuntimeException failure;
+
+		/**
+		 * 등록 단계가 끝나면(실패 포함) 0이 된다.
+		 */
+		private final CountDownLatch writerDone = new CountDownLatch(1);
+
+		private Run(BoardImportJobVO importJobVO) {
+			this.importJobVO = importJobVO;
+		}
+
+		/**
+		 * 읽기 단계. 엑셀파일을 읽어 batch-size 건씩 검증 대기열에 넣는다.
+		 */
+		private void read(ReadOption readOption) {
+			// @Require 컬럼이 비어있는 Row도 검증 단계에서 rejectedRows 로 알려준다.
+			readOption.setStopAtEmptyRequire(false);
+
+			Chunk[] chunk = { new Chunk(0) };
+			try {
+				int rowCount = new ExcelRead<BoardVO>().readStreamWithRowNumber(
+						readOption, BoardVO.class, (rowNumber, boardVO) -> {
+							chunk[0].rows.add(boardVO);
+							chunk[0].rowNumbers.add(rowNumber);
+							if (this.importJobVO != null) {
+								this.importJobVO.setParsedCount(
+										this.importJobVO.getParsedCount() + 1);
+							}
+							if (chunk[0].rows.size() >= importBatchSize) {
+								this.send(chunk[0]);
+								chunk[0] = new Chunk(chunk[0].sequence + 1);
+							}
+						});
+				if (!chunk[0].rows.isEmpty()) {
+					this.send(chunk[0]);
+				}
+				this.importResultVO.setRowCount(rowCount);
+			} finally {
+				// 읽기가 실패해도 검증 단계가 끝날 수 있도록 종료를 알린다.
+				for (int i = 0; i < validateThreads; i++) {
+					this.put(this.parsedQueue, Chunk.END);
+				}
+			}
+		}
+
+		/**
+		 * 묶음을 만들 수 있을 때까지 기다린 뒤 검증 대기열에 넣는다.
+		 */
+		private void send(Chunk chunk) {
+			try {
+				while (!this.chunkPermits.tryAcquire(100,
+						TimeUnit.MILLISECONDS)) {
+					this.throwIfFailed();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			this.put(this.parsedQueue, chunk);
+		}
+
+		/**
+		 * 검증 단계. 검증을 통과한 게시글만 등록 대기열로 넘긴다.
+		 */
+		private void validate() {
+			while (true) {
+				Chunk chunk = this.take(this.parsedQueue);
+				if (chunk == Chunk.END) {
+					this.put(this.validatedQueue, Chunk.END);
+					return;
+				}
+
+				for (int i = 0; i < chunk.rows.size(); i++) {
+					BoardVO boardVO = chunk.rows.get(i);
+					int rowNumber = chunk.rowNumbers.get(i);
+
+					String reason = BoardImportPipeline.this.validate(boardVO);
+					if (reason == null) {
+						chunk.validRows.add(boardVO);
+						chunk.validRowNumbers.add(rowNumber);
+					} else {
+						chunk.rejectedRows.add(
+								new BoardImportRejectedRowVO(rowNumber, reason));
+					}
+				}
+				chunk.rows.clear();
+				chunk.rowNumbers.clear();
+
+				this.put(this.validatedQueue, chunk);
+			}
+		}
+
+		/**
+		 * 등록 단계. 묶음을 순번대로 새로운 트랜잭션으로 등록하고 Commit 한다.
+		 * 앞선 순번의 묶음이 아직 검증 중이라면, 먼저 도착한 묶음은 pendingChunks 에 보관한다.
+		 */
+		private void write() {
+			Map<Integer, Chunk> pendingChunks = new HashMap<>();
+			int nextSequence = 0;
+
+			int endCount = 0;
+			while (endCount < validateThreads) {
+				Chunk chunk = this.take(this.validatedQueue);
+				if (chunk == Chunk.END) {
+					endCount++;
+					continue;
+				}
+
+				pendingChunks.put(chunk.sequence, chunk);
+				while ((chunk = pendingChunks.remove(nextSequence)) != null) {
+					this.insert(chunk);
+					this.chunkPermits.release();
+					nextSequence++;
+				}
+			}
+		}
+
+		private void insert(Chunk chunk) {
+			int[] insertedCounts = chunk.validRows.isEmpty() ? new int[0]
+					: chunkTransaction.execute(status -> boardDao
+							.insertManyBoard(chunk.validRows, importBatchSize));
+			this.record(chunk, insertedCounts);
+		}
+
+		private void record(Chunk chunk, int[] insertedCounts) {
+			List<Integer> failedRows = new ArrayList<>();
+			for (int i = 0; i < insertedCounts.length; i++) {
+				if (insertedCounts[i] > 0) {
+					this.importResultVO.setInsertedCount(
+							this.importResultVO.getInsertedCount()
+									+ insertedCounts[i]);
+				} else {
+					failedRows.add(chunk.validRowNumbers.get(i));
+				}
+			}
+			this.importResultVO.getFailedRows().addAll(failedRows);
+			this.importResultVO.getRejectedRows().addAll(chunk.rejectedRows);
+
+			if (this.importJobVO != null) {
+				this.importJobVO
+						.setInsertedCount(this.importResultVO.getInsertedCount());
+				this.importJobVO.addFailedRows(failedRows);
+				this.importJobVO.addRejectedRows(chunk.rejectedRows);
+			}
+		}
+
+		/**
+		 * 단계를 실행하고, 실패했다면 기록한다.
+		 */
+		private void stage(Runnable stage) {
+			try {
+				stage.run();
+			} catch (RuntimeException e) {
+				synchronized (this) {
+					if (this.failure == null) {
+						this.failure = e;
+					}
+				}
+			}
+		}
+
+		private void awaitWriter() {
+			try {
+				while (!this.writerDone.await(100, TimeUnit.MILLISECONDS)) {
+					if (this.failure != null) {
+						return;
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private void throwIfFailed() {
+			if (this.failure != null) {
+				throw this.failure;
+			}
+		}
+
+		/**
+		 * 대기열에 묶음을 넣는다. 대기열이 가득 찼다면 자리가 날 때까지 기다린다. (Backpressure)
+		 */
+		private void put(BlockingQueue<Chunk> queue, Chunk chunk) {
+			try {
+				while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+					this.throwIfFailed();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private Chunk take(BlockingQueue<Chunk> queue) {
+			this.throwIfFailed();
+			try {
+				Chunk chunk = null;
+				while ((chunk = queue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+					this.throwIfFailed();
+				}
+				return chunk;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+}
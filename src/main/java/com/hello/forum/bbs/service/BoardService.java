@@ -1,9 +1,13 @@
 package com.hello.forum.bbs.service;
 
+import java.io.File;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import com.hello.forum.bbs.vo.BoardImportJobVO;
+import com.hello.forum.bbs.vo.BoardImportResultVO;
 import com.hello.forum.bbs.vo.BoardListVO;
 import com.hello.forum.bbs.vo.BoardVO;
 import com.hello.forum.bbs.vo.SearchBoardVO;
@@ -19,6 +23,34 @@ public interface BoardService {
 
 	public BoardListVO searchAllBoard(SearchBoardVO searchBoardVO);
 
+	/**
+	 * 모든 게시글을 엑셀 파일로 만들어 outputStream에 쓴다. 게시글을 한 건씩 조회해서 쓰므로 게시글의 수와 관계없이
+	 * 메모리 사용량이 일정하다.
+	 * 
+	 * @param outputStream 엑셀 파일을 쓸 Stream (outputStream 은 닫지 않는다)
+	 */
+	public void writeAllBoardToExcel(OutputStream outputStream);
+
+	/**
+	 * 모든 게시글을 엑셀 파일로 만들어 서버에 저장한다. 게시글을 List로 모으지 않고 DB Cursor에서 한 건씩 읽어 쓴다.
+	 * 
+	 * @param filePath 엑셀 파일을 저장할 폴더
+	 * @param fileName 엑셀 파일의 이름 (확장자 포함)
+	 * @return 만들어진 엑셀 파일
+	 */
+	public File writeAllBoardToExcelFile(String filePath, String fileName);
+
+	/**
+	 * 모든 게시글을 CSV 또는 TSV로 outputStream에 쓴다. 엑셀 파일보다 만드는 비용이 적으므로 게시글이 아주 많을 때
+	 * 사용한다.
+	 * 
+	 * @param outputStream 파일을 쓸 Stream (outputStream 은 닫지 않는다)
+	 * @param delimiter    값의 구분자 (CSV: ',', TSV: '\t')
+	 * @param gzip         true 라면 gzip 으로 압축한다.
+	 */
+	public void writeAllBoardToDelimited(OutputStream outputStream,
+			char delimiter, boolean gzip);
+
 	/**
 	 * 새로운 게시글을 등록한다.
 	 * 
@@ -59,17 +91,28 @@ public interface BoardService {
 	 * 엑셀파일로 게시글을 대량등록한다.
 	 * 
 	 * @param excelFile
-	 * @return
+	 * @return 게시글별 등록 결과
 	 */
-	public boolean createMassiveBoard(MultipartFile excelFile);
+	public BoardImportResultVO createMassiveBoard(MultipartFile excelFile);
 
 	/**
 	 * 엑셀파일로 게시글을 대량등록한다.
 	 * 
 	 * @param excelFile
-	 * @return
+	 * @return 게시글별 등록 결과
+	 */
+	public BoardImportResultVO createMassiveBoard2(MultipartFile excelFile);
+
+	/**
+	 * 서버에 저장된 엑셀파일로 게시글을 대량등록한다. 등록하는 동안 진행상황을 importJobVO에 기록한다.
+	 * 게시글은 batch-size 건씩 Commit 되며, 검증을 통과하지 못한 게시글은 등록하지 않고 결과의 rejectedRows 로 알려준다.
+	 * 
+	 * @param excelFilePath 서버에 저장된 엑셀파일의 경로
+	 * @param importJobVO   진행상황을 기록할 작업. 기록하지 않는다면 null
+	 * @return 게시글별 등록 결과
 	 */
-	public boolean createMassiveBoard2(MultipartFile excelFile);
+	public BoardImportResultVO createMassiveBoard2(String excelFilePath,
+			BoardImportJobVO importJobVO);
 
 	public boolean deleteManyBoard(List<Integer> deleteItems);
 
@@ -1,33 +1,48 @@
 package com.hello.forum.bbs.service;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.hello.forum.bbs.dao.BoardDao;
+import com.hello.forum.bbs.search.BoardSearchIndex;
+import com.hello.forum.bbs.vo.BoardImportJobVO;
+import com.hello.forum.bbs.vo.BoardImportResultVO;
 import com.hello.forum.bbs.vo.BoardListVO;
 import com.hello.forum.bbs.vo.BoardVO;
 import com.hello.forum.bbs.vo.SearchBoardVO;
 import com.hello.forum.beans.FileHandler;
 import com.hello.forum.beans.FileHandler.StoredFile;
+import com.hello.forum.exceptions.MakeXlsxFileException;
 import com.hello.forum.exceptions.PageNotFoundException;
 
 import io.github.seccoding.excel.option.ReadOption;
-import io.github.seccoding.excel.read.ExcelRead;
+import io.github.seccoding.excel.option.WriteOption;
+import io.github.seccoding.excel.write.DelimitedWrite;
+import io.github.seccoding.excel.write.ExcelWrite;
 
 /*
  * @Service: @Controller 와 @Repository를 연결하는 역할
@@ -65,6 +80,27 @@ public class BoardServiceImpl implements BoardService {
 	@Autowired
 	private FileHandler fileHandler;
 
+	@Autowired
+	private BoardCountCache boardCountCache;
+
+	@Autowired
+	private BoardSearchIndex boardSearchIndex;
+
+	@Autowired
+	private ViewCountBuffer viewCountBuffer;
+
+	@Autowired
+	private BoardCache boardCache;
+
+	@Autowired
+	private BoardImportPipeline boardImportPipeline;
+
+	/**
+	 * 대량 등록 시 한 번에 전송할 게시글의 수
+	 */
+	@Value("${app.board.import.batch-size:1000}")
+	private int importBatchSize;
+
 	@Override
 	public BoardListVO getAllBoard() {
 		// BoardDaoImpl의 getBoardAllCount를 이용해서 게시글의 건 수를 알고 싶고
@@ -82,14 +118,190 @@ public class BoardServiceImpl implements BoardService {
 
 	@Override
 	public BoardListVO searchAllBoard(SearchBoardVO searchBoardVO) {
-		int boardCount = this.boardDao.searchBoardAllCount(searchBoardVO);
+		// 제목, 내용 검색이라면 검색 색인으로 검색어를 포함할 수 있는 게시글을 먼저 찾는다.
+		List<Integer> searchIds = this.boardSearchIndex.search(
+				searchBoardVO.getSearchType(),
+				searchBoardVO.getSearchKeyword());
+		if (searchIds != null && searchIds.isEmpty()) {
+			// 검색어를 포함한 게시글이 없다면 DB에서 조회하지 않는다.
+			searchBoardVO.setPageCount(0);
+			BoardListVO boardListVO = new BoardListVO();
+			boardListVO.setBoardList(new ArrayList<>());
+			return boardListVO;
+		}
+		searchBoardVO.setSearchIds(searchIds);
+
+		// 같은 검색 조건의 건수를 최근에 조회했다면 다시 세지 않는다.
+		Integer cachedCount = this.boardCountCache.get(searchBoardVO);
+
+		if (searchBoardVO.isSeekMode()) {
+			// Seek 페이지네이션은 전체 건수를 세지 않는다. 최근에 센 건수가 있을 때만 함께 보여준다.
+			int boardCount = -1;
+			if (cachedCount != null) {
+				boardCount = cachedCount;
+				searchBoardVO.setPageCount(boardCount);
+			}
+			return this.searchAllBoardBySeek(searchBoardVO, boardCount);
+		}
+
+		int boardCount = 0;
+		List<BoardVO> boardList = null;
+
+		if (cachedCount != null) {
+			boardCount = cachedCount;
+			boardList = this.boardDao.searchAllBoard(searchBoardVO);
+		} else {
+			// 목록과 전체 건수를 한 번의 쿼리로 조회한다.
+			boardList = this.boardDao.searchAllBoardWithCount(searchBoardVO);
+			if (!boardList.isEmpty()) {
+				boardCount = boardList.get(0).getTotalCnt();
+			} else if (searchBoardVO.getPageNo() > 0) {
+				// 마지막 페이지를 넘어서 조회했다면 전체 건수를 알 수 없으므로 따로 센다.
+				boardCount = this.boardDao.searchBoardAllCount(searchBoardVO);
+			}
+			this.boardCountCache.put(searchBoardVO, boardCount);
+		}
 		searchBoardVO.setPageCount(boardCount);
 
-		List<BoardVO> boardList = this.boardDao.searchAllBoard(searchBoardVO);
+		BoardListVO boardListVO = new BoardListVO();
+		boardListVO.setBoardCnt(boardCount);
+		boardListVO.setBoardList(boardList);
+
+		// 목록 화면에서 이 페이지부터 Seek 페이지네이션으로 이어서 조회할 수 있도록 Cursor를 알려준다.
+		boardListVO.setHasNext(
+				searchBoardVO.getPageNo() < searchBoardVO.getPageCount() - 1);
+		boardListVO.setHasPrev(searchBoardVO.getPageNo() > 0);
+		if (!boardList.isEmpty()) {
+			boardListVO.setPrevBeforeId(boardList.get(0).getId());
+			boardListVO.setNextAfterId(
+					boardList.get(boardList.size() - 1).getId());
+		}
+
+		return boardListVO;
+	}
+
+	/**
+	 * Cursor는 Transaction이 끝나면 닫히므로, Transaction 안에서 엑셀 파일 작성을 마친다.
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public File writeAllBoardToExcelFile(String filePath, String fileName) {
+		try (Cursor<BoardVO> cursor = this.boardDao.getAllBoardCursor()) {
+			WriteOption<BoardVO> writeOption = new WriteOption<>();
+			writeOption.setFileName(fileName);
+			writeOption.setFilePath(filePath);
+			writeOption.setContents(cursor.iterator());
+			// 게시글이 없으면 VO에서 시트 이름을 가져올 수 없으므로 직접 지정한다.
+			if (writeOption.getSheetName() == null) {
+				writeOption.setSheetName("Sheet1");
+			}
+
+			return ExcelWrite.write(writeOption);
+		} catch (IOException e) {
+			logger.error(e.getMessage(), e);
+			throw new MakeXlsxFileException();
+		}
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public void writeAllBoardToDelimited(OutputStream outputStream,
+			char delimiter, boolean gzip) {
+		try (Cursor<BoardVO> cursor = this.boardDao.getAllBoardCursor()) {
+			WriteOption<BoardVO> writeOption = new WriteOption<>();
+			writeOption.setContents(cursor.iterator());
+			// 사용자가 입력한 제목, 내용이 엑셀에서 수식으로 실행되지 않도록 한다.
+			writeOption.setEscapeFormula(true);
+
+			new DelimitedWrite(writeOption, delimiter).write(outputStream,
+					gzip);
+		} catch (IOException e) {
+			logger.error(e.getMessage(), e);
+			throw new MakeXlsxFileException();
+		}
+	}
+
+	@Override
+	public void writeAllBoardToExcel(OutputStream outputStream) {
+		// 메모리에는 최근 100개의 Row만 유지하고, 나머지는 임시 파일로 내보낸다.
+		SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+		workbook.setCompressTempFiles(true);
+
+		try {
+			Sheet sheet = workbook.createSheet("게시글 목록");
+
+			String[] titles = { "번호", "제목", "첨부파일명", "작성자이메일", "조회수", "등록일",
+					"수정일" };
+			Row titleRow = sheet.createRow(0);
+			for (int i = 0; i < titles.length; i++) {
+				titleRow.createCell(i).setCellValue(titles[i]);
+			}
+
+			// 게시글을 List 로 모으지 않고 조회되는 대로 Row를 만든다. (ResultCount 는 1부터 시작한다)
+			this.boardDao.getAllBoard(context -> {
+				BoardVO boardVO = context.getResultObject();
+				Row row = sheet.createRow(context.getResultCount());
+
+				row.createCell(0).setCellValue("" + boardVO.getId());
+				row.createCell(1).setCellValue(boardVO.getSubject());
+				row.createCell(2).setCellValue(boardVO.getOriginFileName());
+				row.createCell(3).setCellValue(boardVO.getEmail());
+				row.createCell(4).setCellValue(boardVO.getViewCnt());
+				row.createCell(5).setCellValue(boardVO.getCrtDt());
+				row.createCell(6).setCellValue(boardVO.getMdfyDt());
+			});
+
+			workbook.write(outputStream);
+		} catch (IOException e) {
+			logger.error(e.getMessage(), e);
+			throw new MakeXlsxFileException();
+		} finally {
+			// 임시 파일을 삭제한다.
+			workbook.dispose();
+			try {
+				workbook.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * 게시글 번호를 기준으로 목록을 조회한다. 페이지가 깊어져도 listSize + 1 건만 조회하므로 조회 시간이 일정하다.
+	 * 
+	 * @param searchBoardVO 검색할 조건 (afterId 혹은 beforeId)
+	 * @param boardCount    검색된 게시글의 건수. 세지 않았다면 -1
+	 * @return 게시글의 목록과 이전/다음 페이지 정보
+	 */
+	private BoardListVO searchAllBoardBySeek(SearchBoardVO searchBoardVO,
+			int boardCount) {
+		List<BoardVO> boardList = this.boardDao
+				.searchAllBoardBySeek(searchBoardVO);
+
+		// listSize 보다 한 건 더 조회되었다면, 조회 방향으로 다음 목록이 더 있다.
+		boolean hasMore = boardList.size() > searchBoardVO.getListSize();
+		if (hasMore) {
+			boardList = boardList.subList(0, searchBoardVO.getListSize());
+		}
+
+		boolean isBackward = searchBoardVO.getBeforeId() > 0;
+		if (isBackward) {
+			// beforeId로 조회한 목록은 오름차순이므로 화면 순서(내림차순)로 뒤집는다.
+			boardList = new ArrayList<>(boardList);
+			Collections.reverse(boardList);
+		}
 
 		BoardListVO boardListVO = new BoardListVO();
 		boardListVO.setBoardCnt(boardCount);
 		boardListVO.setBoardList(boardList);
+		boardListVO.setHasNext(isBackward || hasMore);
+		boardListVO.setHasPrev(isBackward ? hasMore
+				: searchBoardVO.getAfterId() > 0);
+
+		if (!boardList.isEmpty()) {
+			boardListVO.setPrevBeforeId(boardList.get(0).getId());
+			boardListVO.setNextAfterId(
+					boardList.get(boardList.size() - 1).getId());
+		}
 
 		return boardListVO;
 	}
@@ -110,7 +322,10 @@ public class BoardServiceImpl implements BoardService {
 			}
 		}
 
-		int insertedCount = this.boardDao.insertNewBoard(boardVO);
+		// 검색 색인에 등록할 수 있도록 생성된 게시글 번호를 받아온다.
+		int insertedCount = this.boardDao.insertNewBoardReturningId(boardVO);
+		this.invalidateBoardCountCache();
+		this.afterCommit(() -> this.boardSearchIndex.put(boardVO));
 
 		// NumberFormatException이 발생하면, 롤백된다!
 //		Integer.parseInt("safasdfdasfs");
@@ -122,7 +337,9 @@ public class BoardServiceImpl implements BoardService {
 	@Override
 	public BoardVO getOneBoard(int id, boolean isIncrease) {
 		// 1. 게시글 정보 조회하기
-		BoardVO boardVO = this.boardDao.selectOneBoard(id);
+		// 아직 DB에 반영되지 않은 조회수를 더해서 보여준다.
+		BoardVO boardVO = this.viewCountBuffer.readWithPending(id,
+				() -> this.selectOneBoard(id));
 
 		// 게시글을 조회한 결과가 null 이라면, 잘못된 접근입니다. 예외를 발생시킨다.
 		if (boardVO == null) {
@@ -131,7 +348,8 @@ public class BoardServiceImpl implements BoardService {
 
 		if (isIncrease) {
 			// 2. 게시글의 조회수를 1증가시키기
-			this.boardDao.increaseViewCount(id);
+			// Row Lock을 잡지 않도록 메모리에 모아두었다가 ViewCountBuffer가 주기적으로 반영한다.
+			this.viewCountBuffer.increase(id);
 //			if (updatedCount == 0) {
 //				// 업데이트 영향을 받은 ROW가 단 한건도 없다면
 //				// 사용자가 잘못 요청을 했거나
@@ -152,8 +370,7 @@ public class BoardServiceImpl implements BoardService {
 			// 기존의 게시글 내용을 확인.
 			// 사용자가 파일을 업로드한 경우, 기존에 업로드되었던 파일을 삭제하기 위해서!
 			// 기존에 첨부된 파일의 존재여부를 확인해야한다.
-			BoardVO originalBoardVO = this.boardDao
-					.selectOneBoard(boardVO.getId());
+			BoardVO originalBoardVO = this.selectOneBoard(boardVO.getId());
 			// 기존 게시글에 첨부된 파일이 있는지 확인.
 			if (originalBoardVO != null) {
 				// 기존 게시글에 첨부된 파일의 이름을 받아온다.
@@ -174,6 +391,10 @@ public class BoardServiceImpl implements BoardService {
 		}
 
 		int updatedCount = this.boardDao.updateOneBoard(boardVO);
+		// 제목, 내용이 바뀌면 검색 결과의 건수도 달라질 수 있다.
+		this.invalidateBoardCountCache();
+		this.invalidateBoardCache(boardVO.getId());
+		this.afterCommit(() -> this.boardSearchIndex.put(boardVO));
 		return updatedCount > 0;
 	}
 
@@ -183,7 +404,7 @@ public class BoardServiceImpl implements BoardService {
 		// 기존의 게시글 내용을 확인.
 		// 사용자가 파일을 업로드한 경우, 기존에 업로드되었던 파일을 삭제하기 위해서!
 		// 기존에 첨부된 파일의 존재여부를 확인해야한다.
-		BoardVO originalBoardVO = this.boardDao.selectOneBoard(id);
+		BoardVO originalBoardVO = this.selectOneBoard(id);
 		// 기존 게시글에 첨부된 파일이 있는지 확인.
 		if (originalBoardVO != null) {
 			// 기존 게시글에 첨부된 파일의 이름을 받아온다.
@@ -197,6 +418,9 @@ public class BoardServiceImpl implements BoardService {
 		}
 
 		int deletedCount = this.boardDao.deleteOneBoard(id);
+		this.invalidateBoardCountCache();
+		this.invalidateBoardCache(id);
+		this.afterCommit(() -> this.boardSearchIndex.remove(id));
 		return deletedCount > 0;
 	}
 
@@ -222,110 +446,276 @@ public class BoardServiceImpl implements BoardService {
 		}
 
 		int deletedCount = this.boardDao.deleteManyBoard(deleteItems);
+		this.invalidateBoardCountCache();
+		for (Integer id : deleteItems) {
+			this.invalidateBoardCache(id);
+		}
+		this.afterCommit(() -> this.boardSearchIndex.remove(deleteItems));
 
 		return deletedCount > 0;
 	}
 
 	@Transactional
 	@Override
-	public boolean createMassiveBoard(MultipartFile excelFile) {
+	public BoardImportResultVO createMassiveBoard(MultipartFile excelFile) {
 
-		int insertedCount = 0;
+		BoardImportResultVO importResultVO = new BoardImportResultVO();
 		int rowSize = 0;
 
 		if (excelFile != null && !excelFile.isEmpty()) {
-			StoredFile storedExcel = this.fileHandler.storeFile(excelFile);
-
-			if (storedExcel != null) {
-				// 엑셀파일을 읽는다.
-				// 1. FileSystem에 있는 파일을 Java로 읽어와야 한다. (InputStream)
-				InputStream excelFileInputStream = null;
-				try {
-					excelFileInputStream = new FileInputStream(
-							storedExcel.getRealFilePath());
-				} catch (FileNotFoundException e) {
-					logger.error(e.getMessage(), e);
-				}
-
-				// 2. Apache POI를 활용해서 InputStream의 내용을 엑셀 문서로 읽어온다.
-				Workbook excelWorkbook = null;
-				if (excelFileInputStream != null) {
-					try {
-						excelWorkbook = new XSSFWorkbook(excelFileInputStream);
-					} catch (IOException e) {
-						logger.error(e.getMessage(), e);
-					}
-				}
+			// 엑셀파일을 읽는다.
+			// 1. 업로드된 파일을 서버에 저장하지 않고 바로 읽는다. (InputStream)
+			// 2. Apache POI를 활용해서 InputStream의 내용을 엑셀 문서로 읽어온다.
+			Workbook excelWorkbook = null;
+			try (InputStream excelFileInputStream = excelFile
+					.getInputStream()) {
+				excelWorkbook = new XSSFWorkbook(excelFileInputStream);
+			} catch (IOException e) {
+				logger.error(e.getMessage(), e);
+			}
 
-				// 엑셀파일의 특정 Sheet 에 있는 모든 데이터를 찾아 List<BoardVO>로 만들어 준다.
-				List<BoardVO> boardListInExcel = new ArrayList<>();
-				if (excelWorkbook != null) {
-					// Sheet를 추출.
-					Sheet sheet = excelWorkbook.getSheet("Sheet1");
-
-					// Sheet 에서 데이터가 있는 Row만큼 반복을 한다.
-					// 1. Sheet에서 데이터가 몇개의 Row로 구성되어는지 확인한다.
-					rowSize = sheet.getPhysicalNumberOfRows();
-
-					// 2. 첫 번째 Row부터 rowSize만큼 반복.
-					for (int i = 1; i < rowSize; i++) {
-						// 3. i 번째 Row를 가져온다.
-						Row row = sheet.getRow(i);
-
-						// 4. Row에 있는 Cell(게시글 정보)들을 가져온다.
-						String author = row.getCell(0).getStringCellValue();
-						String subject = row.getCell(1).getStringCellValue();
-						String description = row.getCell(2)
-								.getStringCellValue();
-
-						BoardVO boardVO = new BoardVO();
-						boardVO.setEmail(author);
-						boardVO.setSubject(subject);
-						boardVO.setContent(description);
-
-						boardListInExcel.add(boardVO);
-					}
+			// 엑셀파일의 특정 Sheet 에 있는 모든 데이터를 찾아 List<BoardVO>로 만들어 준다.
+			List<BoardVO> boardListInExcel = new ArrayList<>();
+			// 게시글이 있던 엑셀의 Row 번호 (1부터 시작)
+			List<Integer> rowNumbers = new ArrayList<>();
+			if (excelWorkbook != null) {
+				// Sheet를 추출.
+				Sheet sheet = excelWorkbook.getSheet("Sheet1");
+
+				// Sheet 에서 데이터가 있는 Row만큼 반복을 한다.
+				// 1. Sheet에서 데이터가 몇개의 Row로 구성되어는지 확인한다.
+				rowSize = sheet.getPhysicalNumberOfRows();
+
+				// 2. 첫 번째 Row부터 rowSize만큼 반복.
+				for (int i = 1; i < rowSize; i++) {
+					// 3. i 번째 Row를 가져온다.
+					Row row = sheet.getRow(i);
+
+					// 4. Row에 있는 Cell(게시글 정보)들을 가져온다.
+					String author = row.getCell(0).getStringCellValue();
+					String subject = row.getCell(1).getStringCellValue();
+					String description = row.getCell(2).getStringCellValue();
+
+					BoardVO boardVO = new BoardVO();
+					boardVO.setEmail(author);
+					boardVO.setSubject(subject);
+					boardVO.setContent(description);
+
+					boardListInExcel.add(boardVO);
+					rowNumbers.add(i + 1);
 				}
 
-				// List<BoardVO>에 있는 내용을 모두 Insert 한다.
-				for (BoardVO boardVO : boardListInExcel) {
-					insertedCount += this.boardDao.insertNewBoard(boardVO);
+				try {
+					excelWorkbook.close();
+				} catch (IOException e) {
+					logger.error(e.getMessage(), e);
 				}
 			}
 
+			// List<BoardVO>에 있는 내용을 모두 Insert 한다.
+			importResultVO = this.insertManyBoard(boardListInExcel, rowNumbers,
+					null);
 		}
 
-		return insertedCount > 0 && insertedCount == rowSize - 1;
+		return importResultVO;
 	}
 
-	@Transactional
+	/**
+	 * 게시글은 batch-size 건씩 Commit 되므로 트랜잭션으로 묶지 않는다. (BoardImportPipeline)
+	 * xlsx 를 InputStream 으로 열면 압축을 모두 풀어 메모리에 올리므로, 업로드된 파일을 임시 파일로 옮긴 뒤
+	 * 파일에서 한 Row씩 읽는다. 임시 파일은 등록이 끝나면 지운다.
+	 */
 	@Override
-	public boolean createMassiveBoard2(MultipartFile excelFile) {
-		int insertedCount = 0;
-		int rowSize = 0;
+	public BoardImportResultVO createMassiveBoard2(MultipartFile excelFile) {
+		BoardImportResultVO importResultVO = new BoardImportResultVO();
 
 		if (excelFile != null && !excelFile.isEmpty()) {
-			StoredFile storedExcel = this.fileHandler.storeFile(excelFile,
-					false);
+			Path tempFile = null;
+			try {
+				// 확장자로 xls, xlsx 를 구분하므로 원래 파일의 확장자를 유지한다.
+				String fileName = excelFile.getOriginalFilename();
+				String extension = fileName != null && fileName.toLowerCase()
+						.endsWith(".xls") ? ".xls" : ".xlsx";
 
-			if (storedExcel != null) {
+				tempFile = Files.createTempFile("board-import-", extension);
+				excelFile.transferTo(tempFile);
 
 				ReadOption readOption = new ReadOption();
-				readOption.setFilePath(storedExcel.getRealFilePath());
+				readOption.setFilePath(tempFile.toString());
+				importResultVO = this.importBoard(readOption, null);
+			} catch (IOException e) {
+				throw new IllegalStateException(e.getMessage(), e);
+			} finally {
+				this.deleteTempFile(tempFile);
+			}
+		}
 
-				List<BoardVO> boardListInExcel = new ExcelRead<BoardVO>()
-						.readToList(readOption, BoardVO.class);
-				rowSize = boardListInExcel.size();
+		return importResultVO;
+	}
 
-				// List<BoardVO>에 있는 내용을 모두 Insert 한다.
-				for (BoardVO boardVO : boardListInExcel) {
-					insertedCount += this.boardDao.insertNewBoard(boardVO);
-				}
+	private void deleteTempFile(Path tempFile) {
+		if (tempFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFile);
+		} catch (IOException e) {
+			logger.warn("임시 파일을 지우지 못했습니다. ({})", tempFile, e);
+		}
+	}
+
+	/**
+	 * 읽기, 검증, 등록을 동시에 진행하고 batch-size 건씩 Commit 한다. 중간에 실패해도 이미 등록된 게시글은 유지된다.
+	 */
+	@Override
+	public BoardImportResultVO createMassiveBoard2(String excelFilePath,
+			BoardImportJobVO importJobVO) {
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(excelFilePath);
+		return this.importBoard(readOption, importJobVO);
+	}
+
+	/**
+	 * 엑셀파일의 게시글을 BoardImportPipeline 으로 등록한다.
+	 * 
+	 * @param readOption  읽을 엑셀파일. 파일의 경로 혹은 업로드된 파일의 InputStream
+	 * @param importJobVO 진행상황을 기록할 작업. 기록하지 않는다면 null
+	 * @return 게시글별 등록 결과
+	 */
+	private BoardImportResultVO importBoard(ReadOption readOption,
+			BoardImportJobVO importJobVO) {
+		Date importStartedAt = new Date();
+
+		try {
+			return this.boardImportPipeline.run(readOption, importJobVO);
+		} finally {
+			// 실패했더라도 Commit 된 게시글이 있으므로 캐시를 비우고 색인한다.
+			this.finishImport(importStartedAt);
+		}
+	}
+
+	/**
+	 * 엑셀파일에서 읽은 게시글을 JDBC Batch로 등록한다. 게시글마다 쿼리를 전송하지 않고 batch-size 건씩 모아서 전송한다.
+	 * 
+	 * @param boardList   엑셀파일에서 읽은 게시글의 목록
+	 * @param rowNumbers  게시글별 엑셀의 Row 번호 (1부터 시작). 등록에 실패한 게시글을 알려줄 때 사용한다.
+	 * @param importJobVO 진행상황을 기록할 작업. 비동기 작업이 아니라면 null
+	 * @return 게시글별 등록 결과
+	 */
+	private BoardImportResultVO insertManyBoard(List<BoardVO> boardList,
+			List<Integer> rowNumbers, BoardImportJobVO importJobVO) {
+		Date importStartedAt = new Date();
+
+		BoardImportResultVO importResultVO = new BoardImportResultVO();
+		importResultVO.setRowCount(boardList.size());
+
+		// batch-size 건씩 등록하면서 진행상황을 기록한다.
+		for (int start = 0; start < boardList.size(); start += this.importBatchSize) {
+			int end = Math.min(start + this.importBatchSize, boardList.size());
+			this.insertBoardChunk(boardList.subList(start, end),
+					rowNumbers.subList(start, end), importResultVO,
+					importJobVO);
+		}
+
+		this.finishImport(importStartedAt);
+		return importResultVO;
+	}
+
+	/**
+	 * 게시글을 한 번의 JDBC Batch로 등록하고 결과를 기록한다.
+	 * 
+	 * @param chunk          등록할 게시글 (최대 batch-size 건)
+	 * @param rowNumbers     게시글별 엑셀의 Row 번호 (1부터 시작)
+	 * @param importResultVO 결과를 기록할 VO
+	 * @param importJobVO    진행상황을 기록할 작업. 비동기 작업이 아니라면 null
+	 */
+	private void insertBoardChunk(List<BoardVO> chunk, List<Integer> rowNumbers,
+			BoardImportResultVO importResultVO, BoardImportJobVO importJobVO) {
+		int[] insertedCounts = this.boardDao.insertManyBoard(chunk,
+				this.importBatchSize);
+
+		List<Integer> failedRows = new ArrayList<>();
+		for (int i = 0; i < insertedCounts.length; i++) {
+			if (insertedCounts[i] > 0) {
+				importResultVO.setInsertedCount(
+						importResultVO.getInsertedCount() + insertedCounts[i]);
+			} else {
+				failedRows.add(rowNumbers.get(i));
 			}
+		}
+		importResultVO.getFailedRows().addAll(failedRows);
+
+		if (importJobVO != null) {
+			importJobVO.setInsertedCount(importResultVO.getInsertedCount());
+			importJobVO.addFailedRows(failedRows);
+		}
+	}
+
+	/**
+	 * 대량등록이 끝난 뒤 건수 캐시를 비우고, 등록된 게시글을 한 번에 색인한다.
+	 * 
+	 * @param importStartedAt 대량등록을 시작한 시간
+	 */
+	private void finishImport(Date importStartedAt) {
+		this.invalidateBoardCountCache();
+		this.afterCommit(() -> this.boardSearchIndex.catchUp(importStartedAt));
+	}
 
+	/**
+	 * 트랜잭션이 Commit 된 이후에 작업을 실행한다. Rollback 된 변경사항이 검색 색인에 반영되지 않도록 한다.
+	 * 
+	 * @param task Commit 이후 실행할 작업
+	 */
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
 		}
 
-		return insertedCount > 0 && insertedCount == rowSize;
+		TransactionSynchronizationManager
+				.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						task.run();
+					}
+				});
+	}
+
+	/**
+	 * 게시글을 조회한다. 최근에 조회된 게시글이라면 BoardCache 에서 가져온다.
+	 * 
+	 * @param id 게시글 번호
+	 * @return 게시글 정보. 게시글이 없다면 null
+	 */
+	private BoardVO selectOneBoard(int id) {
+		BoardVO boardVO = this.boardCache.get(id);
+		if (boardVO == null) {
+			boardVO = this.boardDao.selectOneBoard(id);
+			if (boardVO != null) {
+				this.boardCache.put(boardVO);
+			}
+		}
+		return boardVO;
+	}
+
+	/**
+	 * 수정, 삭제된 게시글을 BoardCache 에서 지운다. Commit 되기 전에 다른 요청이 이전 게시글을 다시 보관할 수 있으므로
+	 * Commit 이후에 한 번 더 지운다.
+	 * 
+	 * @param id 게시글 번호
+	 */
+	private void invalidateBoardCache(int id) {
+		this.boardCache.invalidate(id);
+		this.afterCommit(() -> this.boardCache.invalidate(id));
+	}
+
+	/**
+	 * 게시글이 등록, 수정, 삭제되면 BoardCountCache 를 비운다. Commit 되기 전에 다른 요청이 이전 건수를 다시 보관할 수
+	 * 있으므로 Commit 이후에 한 번 더 비운다.
+	 */
+	private void invalidateBoardCountCache() {
+		this.boardCountCache.invalidateAll();
+		this.afterCommit(() -> this.boardCountCache.invalidateAll());
 	}
 
 }
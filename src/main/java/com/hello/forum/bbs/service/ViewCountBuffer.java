@@ -0,0 +1,233 @@
+package com.hello.forum.bbs.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hello.forum.bbs.dao.BoardDao;
+import com.hello.forum.bbs.vo.BoardVO;
+import com.hello.forum.bbs.vo.ViewCountVO;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 게시글의 조회수 증가량을 메모리에 모아두었다가 주기적으로 한 번에 반영한다.
+ * 
+ * <pre>
+ * 게시글을 조회할 때마다 UPDATE BOARD SET VIEW_CNT = VIEW_CNT + 1 을 실행하면
+ * 많이 조회되는 게시글은 모든 조회 요청이 같은 Row Lock을 기다린다.
+ * 조회수는 게시글별 LongAdder 에 더해두고, flush-interval-ms 마다(그리고 애플리케이션이 종료될 때)
+ * 한 번의 UPDATE 로 반영한다.
+ * 반영된 조회수는 BoardCache 에 보관중인 게시글에도 더해준다.
+ * 
+ * 게시글을 조회할 때에는 DB(또는 BoardCache)의 조회수에 아직 반영되지 않은 조회수를 더해서 보여준다.
+ * flush 가 DB와 BoardCache 에 반영하는 동안 조회하면 같은 조회수를 두 번 더하거나 빠뜨리게 되므로
+ * 조회(readWithPending)와 반영(flush)은 flushLock 으로 서로 기다린다.
+ * </pre>
+ */
+@Component
+public class ViewCountBuffer {
+
+	private Logger logger = LoggerFactory.getLogger(ViewCountBuffer.class);
+
+	/**
+	 * 세션에 이미 조회한 게시글 번호를 보관할 때 사용하는 이름
+	 */
+	private static final String VIEWED_BOARDS = "_VIEWED_BOARDS_";
+
+	/**
+	 * Oracle의 IN 절에 작성할 수 있는 최대 개수
+	 */
+	private static final int FLUSH_CHUNK_SIZE = 1000;
+
+	/**
+	 * 같은 세션에서 같은 게시글을 여러번 조회해도 조회수를 한 번만 증가시킬 경우 true
+	 */
+	@Value("${app.board.view-count.session-dedupe:false}")
+	private boolean sessionDedupe;
+
+	@Autowired
+	private BoardDao boardDao;
+
+	@Autowired
+	private BoardCache boardCache;
+
+	private final Map<Integer, Counter> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * 조회는 읽기 Lock, flush 는 쓰기 Lock 을 잡는다.
+	 */
+	private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+	/**
+	 * 게시글의 조회수를 1 증가시킨다. DB에는 다음 flush 때 반영된다.
+	 * 
+	 * @param id 조회한 게시글 번호
+	 */
+	public void increase(int id) {
+		// Map 의 Lock 을 잡지 않고 LongAdder 로 증가시키므로 같은 게시글의 조회도 서로 기다리지 않는다.
+		while (true) {
+			Counter counter = this.counters.computeIfAbsent(id,
+					key -> new Counter());
+			counter.views.increment();
+			if (!counter.retired) {
+				return;
+			}
+			// flush 가 지우려는 Counter 라면 증가를 취소하고 새 Counter 에 다시 증가시킨다.
+			counter.abandoned.increment();
+		}
+	}
+
+	/**
+	 * 게시글을 조회하고, 아직 DB에 반영되지 않은 조회수를 더한다. flush 가 반영하는 중이라면 끝날 때까지 기다린다.
+	 * 
+	 * @param id     게시글 번호
+	 * @param reader DB 또는 BoardCache 에서 게시글을 조회한다.
+	 * @return 반영되지 않은 조회수를 더한 게시글. 게시글이 없다면 null
+	 */
+	public BoardVO readWithPending(int id, Supplier<BoardVO> reader) {
+		this.flushLock.readLock().lock();
+		try {
+			BoardVO boardVO = reader.get();
+			if (boardVO != null) {
+				Counter counter = this.counters.get(id);
+				long pending = counter == null ? 0 : counter.pending();
+				boardVO.setViewCnt(boardVO.getViewCnt() + (int) pending);
+			}
+			return boardVO;
+		} finally {
+			this.flushLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 조회수를 증가시켜야 하는 조회인지 확인한다. session-dedupe 가 true 라면 세션별로 게시글마다 한 번만 증가시킨다.
+	 * 
+	 * @param session 사용자의 세션. null 이라면 항상 증가시킨다.
+	 * @param id      조회한 게시글 번호
+	 * @return 조회수를 증가시켜야 한다면 true
+	 */
+	public boolean isCountable(HttpSession session, int id) {
+		if (!this.sessionDedupe || session == null) {
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<Integer> viewedBoards = (Set<Integer>) session
+				.getAttribute(VIEWED_BOARDS);
+		if (viewedBoards == null) {
+			viewedBoards = Collections.newSetFromMap(new ConcurrentHashMap<>());
+			session.setAttribute(VIEWED_BOARDS, viewedBoards);
+		}
+		return viewedBoards.add(id);
+	}
+
+	/**
+	 * 모아둔 조회수를 DB에 반영한다. 반영에 실패한 조회수는 다음 flush 때 다시 반영한다.
+	 */
+	@Scheduled(fixedDelayString = "${app.board.view-count.flush-interval-ms:3000}")
+	public synchronized void flush() {
+		List<ViewCountVO> viewCounts = new ArrayList<>();
+		List<Counter> flushedCounters = new ArrayList<>();
+
+		for (Map.Entry<Integer, Counter> entry : this.counters.entrySet()) {
+			Counter counter = entry.getValue();
+			long pending = counter.pending();
+
+			if (pending == 0) {
+				// 한 주기동안 조회되지 않은 게시글은 메모리에서 지운다.
+				// retired 로 표시한 뒤에 다시 확인하므로, 그 사이에 증가된 조회수는 남겨두고
+				// 표시를 본 increase 는 새 Counter 에 다시 증가시킨다.
+				this.counters.computeIfPresent(entry.getKey(),
+						(key, current) -> {
+							if (current != counter) {
+								return current;
+							}
+							current.retired = true;
+							if (current.pending() == 0) {
+								return null;
+							}
+							current.retired = false;
+							return current;
+						});
+				continue;
+			}
+
+			viewCounts.add(new ViewCountVO(entry.getKey(), pending));
+			flushedCounters.add(counter);
+		}
+
+		for (int i = 0; i < viewCounts.size(); i += FLUSH_CHUNK_SIZE) {
+			int end = Math.min(i + FLUSH_CHUNK_SIZE, viewCounts.size());
+
+			// 반영되지 않은 조회수(pending)를 줄이는 것과 DB, BoardCache 에 더하는 것을
+			// 조회하는 쪽에서 한 번에 보도록 쓰기 Lock 안에서 처리한다.
+			this.flushLock.writeLock().lock();
+			try {
+				this.boardDao.increaseViewCounts(viewCounts.subList(i, end));
+				for (int j = i; j < end; j++) {
+					flushedCounters.get(j).flushed += viewCounts.get(j)
+							.getIncrease();
+					// BoardCache 에 보관중인 게시글도 DB와 같은 조회수가 되도록 증가시킨다.
+					this.boardCache.increaseViewCount(viewCounts.get(j).getId(),
+							viewCounts.get(j).getIncrease());
+				}
+			} catch (RuntimeException e) {
+				// 반영하지 못한 조회수는 pending 으로 남아 다음 flush 때 다시 반영한다.
+				logger.error("조회수를 반영하지 못했습니다. 다음에 다시 반영합니다.", e);
+			} finally {
+				this.flushLock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * 애플리케이션이 종료될 때 모아둔 조회수를 반영한다.
+	 */
+	@PreDestroy
+	public void destroy() {
+		this.flush();
+	}
+
+	/**
+	 * 게시글 하나의 조회수.
+	 * 
+	 * <pre>
+	 * views 는 누적된 조회수, flushed 는 그 중 DB에 반영된 조회수이다.
+	 * views 를 초기화하지 않고 flushed 만 늘려가므로 반영하는 도중 증가한 조회수가 사라지지 않는다.
+	 * abandoned 는 retired 인 Counter 에 증가시켰다가 취소한 조회수이다.
+	 * </pre>
+	 */
+	private static class Counter {
+		private final LongAdder views = new LongAdder();
+		private final LongAdder abandoned = new LongAdder();
+		private volatile long flushed;
+
+		/**
+		 * flush 가 Map 에서 지우려는 Counter 인지 여부
+		 */
+		private volatile boolean retired;
+
+		private long pending() {
+			// abandoned 를 먼저 읽어야 취소된 조회수의 views 증가분도 함께 보인다.
+			long abandonedViews = this.abandoned.sum();
+			return this.views.sum() - abandonedViews - this.flushed;
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.hello.forum.bbs.vo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엑셀파일로 게시글을 대량등록하는 작업의 진행상황.
+ * 
+ * <pre>
+ * 작업을 실행하는 Thread가 값을 변경하고, 진행상황을 조회하는 요청 Thread가 값을 읽는다.
+ * </pre>
+ */
+public class BoardImportJobVO {
+
+	public static final String WAITING = "WAITING";
+	public static final String RUNNING = "RUNNING";
+	public static final String DONE = "DONE";
+	public static final String FAILED = "FAILED";
+
+	private String jobId;
+
+	/**
+	 * 작업을 요청한 사용자의 이메일
+	 */
+	private String email;
+
+	/**
+	 * WAITING, RUNNING, DONE, FAILED
+	 */
+	private volatile String status = WAITING;
+
+	/**
+	 * 엑셀파일에서 읽은 게시글의 수
+	 */
+	private volatile int parsedCount;
+
+	/**
+	 * 등록된 게시글의 수
+	 */
+	private volatile int insertedCount;
+
+	/**
+	 * 등록하지 못한 게시글의 엑셀 Row 번호 (1부터 시작)
+	 */
+	private final List<Integer> failedRows = new ArrayList<>();
+
+	/**
+	 * 검증을 통과하지 못해 등록하지 않은 게시글
+	 */
+	private final List<BoardImportRejectedRowVO> rejectedRows = new ArrayList<>();
+
+	/**
+	 * 작업이 실패했을 때의 메시지
+	 */
+	private volatile String errorMessage;
+
+	private long requestedAt;
+	private volatile long finishedAt;
+
+	public BoardImportJobVO(String jobId, String email) {
+		this.jobId = jobId;
+		this.email = email;
+		this.requestedAt = System.currentTimeMillis();
+	}
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+		if (DONE.equals(status) || FAILED.equals(status)) {
+			this.finishedAt = System.currentTimeMillis();
+		}
+	}
+
+	public int getParsedCount() {
+		return parsedCount;
+	}
+
+	public void setParsedCount(int parsedCount) {
+		this.parsedCount = parsedCount;
+	}
+
+	public int getInsertedCount() {
+		return insertedCount;
+	}
+
+	public void setInsertedCount(int insertedCount) {
+		this.insertedCount = insertedCount;
+	}
+
+	public int getFailedCount() {
+		synchronized (this.failedRows) {
+			return this.failedRows.size();
+		}
+	}
+
+	public List<Integer> getFailedRows() {
+		synchronized (this.failedRows) {
+			return new ArrayList<>(this.failedRows);
+		}
+	}
+
+	public void addFailedRows(List<Integer> failedRows) {
+		synchronized (this.failedRows) {
+			this.failedRows.addAll(failedRows);
+		}
+	}
+
+	public int getRejectedCount() {
+		synchronized (this.rejectedRows) {
+			return this.rejectedRows.size();
+		}
+	}
+
+	public List<BoardImportRejectedRowVO> getRejectedRows() {
+		synchronized (this.rejectedRows) {
+			return new ArrayList<>(this.rejectedRows);
+		}
+	}
+
+	public void addRejectedRows(List<BoardImportRejectedRowVO> rejectedRows) {
+		synchronized (this.rejectedRows) {
+			this.rejectedRows.addAll(rejectedRows);
+		}
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
+	public long getRequestedAt() {
+		return requestedAt;
+	}
+
+	public long getFinishedAt() {
+		return finishedAt;
+	}
+
+	/**
+	 * 작업이 끝났는지(성공 혹은 실패) 확인한다.
+	 */
+	public boolean isFinished() {
+		return this.finishedAt > 0;
+	}
+
+}
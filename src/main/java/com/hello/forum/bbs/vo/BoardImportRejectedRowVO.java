@@ -0,0 +1,31 @@
+package com.hello.forum.bbs.vo;
+
+/**
+ * 엑셀파일로 게시글을 대량등록할 때 검증을 통과하지 못해 등록하지 않은 게시글
+ */
+public class BoardImportRejectedRowVO {
+
+	/**
+	 * 게시글이 있던 엑셀의 Row 번호 (엑셀 문서와 동일하게 1부터 시작)
+	 */
+	private int rowNumber;
+
+	/**
+	 * 등록하지 않은 이유
+	 */
+	private String reason;
+
+	public BoardImportRejectedRowVO(int rowNumber, String reason) {
+		this.rowNumber = rowNumber;
+		this.reason = reason;
+	}
+
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	public String getReason() {
+		return reason;
+	}
+
+}
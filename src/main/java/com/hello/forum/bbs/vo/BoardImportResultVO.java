@@ -0,0 +1,72 @@
+package com.hello.forum.bbs.vo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엑셀파일로 게시글을 대량등록한 결과
+ */
+public class BoardImportResultVO {
+
+	/**
+	 * 엑셀파일에서 읽은 게시글의 수
+	 */
+	private int rowCount;
+
+	/**
+	 * 등록된 게시글의 수
+	 */
+	private int insertedCount;
+
+	/**
+	 * 등록하지 못한 게시글의 엑셀 Row 번호 (엑셀 문서와 동일하게 1부터 시작)
+	 */
+	private List<Integer> failedRows = new ArrayList<>();
+
+	/**
+	 * 검증을 통과하지 못해 등록하지 않은 게시글
+	 */
+	private List<BoardImportRejectedRowVO> rejectedRows = new ArrayList<>();
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public void setRowCount(int rowCount) {
+		this.rowCount = rowCount;
+	}
+
+	public int getInsertedCount() {
+		return insertedCount;
+	}
+
+	public void setInsertedCount(int insertedCount) {
+		this.insertedCount = insertedCount;
+	}
+
+	public List<Integer> getFailedRows() {
+		return failedRows;
+	}
+
+	public void setFailedRows(List<Integer> failedRows) {
+		this.failedRows = failedRows;
+	}
+
+	public List<BoardImportRejectedRowVO> getRejectedRows() {
+		return rejectedRows;
+	}
+
+	public void setRejectedRows(List<BoardImportRejectedRowVO> rejectedRows) {
+		this.rejectedRows = rejectedRows;
+	}
+
+	/**
+	 * 엑셀파일의 모든 게시글이 등록되었는지 확인한다.
+	 * 
+	 * @return 한 건 이상의 게시글이 있고 모두 등록되었다면 true
+	 */
+	public boolean isSuccess() {
+		return this.insertedCount > 0 && this.insertedCount == this.rowCount;
+	}
+
+}
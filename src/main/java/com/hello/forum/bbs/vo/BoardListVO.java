@@ -5,7 +5,7 @@ import java.util.List;
 public class BoardListVO {
 
 	/**
-	 * DB에서 조회한 게시글의 개수
+	 * DB에서 조회한 게시글의 개수. Seek 페이지네이션에서 건수를 세지 않았다면 -1
 	 */
 	private int boardCnt;
 	
@@ -14,6 +14,26 @@ public class BoardListVO {
 	 */
 	private List<BoardVO> boardList;
 
+	/**
+	 * 다음 페이지(더 오래된 게시글)가 존재하는지 여부
+	 */
+	private boolean hasNext;
+
+	/**
+	 * 이전 페이지(더 최근 게시글)가 존재하는지 여부
+	 */
+	private boolean hasPrev;
+
+	/**
+	 * 다음 페이지를 조회할 때 afterId로 전달할 값 (현재 목록의 마지막 게시글 번호)
+	 */
+	private int nextAfterId;
+
+	/**
+	 * 이전 페이지를 조회할 때 beforeId로 전달할 값 (현재 목록의 첫 번째 게시글 번호)
+	 */
+	private int prevBeforeId;
+
 	public int getBoardCnt() {
 		return boardCnt;
 	}
@@ -30,4 +50,36 @@ public class BoardListVO {
 		this.boardList = boardList;
 	}
 
+	public boolean isHasNext() {
+		return hasNext;
+	}
+
+	public void setHasNext(boolean hasNext) {
+		this.hasNext = hasNext;
+	}
+
+	public boolean isHasPrev() {
+		return hasPrev;
+	}
+
+	public void setHasPrev(boolean hasPrev) {
+		this.hasPrev = hasPrev;
+	}
+
+	public int getNextAfterId() {
+		return nextAfterId;
+	}
+
+	public void setNextAfterId(int nextAfterId) {
+		this.nextAfterId = nextAfterId;
+	}
+
+	public int getPrevBeforeId() {
+		return prevBeforeId;
+	}
+
+	public void setPrevBeforeId(int prevBeforeId) {
+		this.prevBeforeId = prevBeforeId;
+	}
+
 }
@@ -56,6 +56,11 @@ public class BoardVO {
 
 	private MemberVO memberVO;
 
+	/**
+	 * 목록 조회 시 검색된 전체 게시글의 건수 (COUNT(1) OVER ())
+	 */
+	private int totalCnt;
+
 	public int getId() {
 		return id;
 	}
@@ -144,4 +149,12 @@ public class BoardVO {
 		this.memberVO = memberVO;
 	}
 
+	public int getTotalCnt() {
+		return totalCnt;
+	}
+
+	public void setTotalCnt(int totalCnt) {
+		this.totalCnt = totalCnt;
+	}
+
 }
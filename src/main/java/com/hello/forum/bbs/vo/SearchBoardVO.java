@@ -1,12 +1,41 @@
 package com.hello.forum.bbs.vo;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.hello.forum.common.vo.PaginateVO;
 
 public class SearchBoardVO extends PaginateVO {
 
+	/**
+	 * 목록에서 조회할 수 있는 내용의 최대 길이
+	 */
+	public static final int MAX_EXCERPT_LENGTH = 500;
+
 	private String searchType;
 	private String searchKeyword;
 
+	/**
+	 * Seek 페이지네이션. 이 번호보다 작은 게시글(다음 페이지)을 조회한다.
+	 */
+	private int afterId;
+
+	/**
+	 * Seek 페이지네이션. 이 번호보다 큰 게시글(이전 페이지)을 조회한다.
+	 */
+	private int beforeId;
+
+	/**
+	 * 검색 색인으로 찾은 게시글 번호. Oracle의 IN 절은 1000개까지만 작성할 수 있으므로 1000개씩 나누어 보관한다.
+	 * null 이라면 색인을 사용하지 않고 LIKE 로만 검색한다.
+	 */
+	private List<List<Integer>> searchIdGroups;
+
+	/**
+	 * 목록에서 함께 조회할 내용의 길이. 0 이라면 내용을 조회하지 않는다. (최대 MAX_EXCERPT_LENGTH)
+	 */
+	private int excerptLength;
+
 	public String getSearchType() {
 		return searchType;
 	}
@@ -23,4 +52,60 @@ public class SearchBoardVO extends PaginateVO {
 		this.searchKeyword = searchKeyword;
 	}
 
+	public int getAfterId() {
+		return afterId;
+	}
+
+	public void setAfterId(int afterId) {
+		this.afterId = afterId;
+	}
+
+	public int getBeforeId() {
+		return beforeId;
+	}
+
+	public void setBeforeId(int beforeId) {
+		this.beforeId = beforeId;
+	}
+
+	/**
+	 * afterId 혹은 beforeId가 전달되었다면 페이지 번호 대신 게시글 번호(B.ID)를 기준으로 목록을 조회한다.
+	 * 
+	 * @return Seek 페이지네이션 사용 여부
+	 */
+	public boolean isSeekMode() {
+		return this.afterId > 0 || this.beforeId > 0;
+	}
+
+	public int getExcerptLength() {
+		return excerptLength;
+	}
+
+	public void setExcerptLength(int excerptLength) {
+		this.excerptLength = Math.max(0,
+				Math.min(excerptLength, MAX_EXCERPT_LENGTH));
+	}
+
+	public List<List<Integer>> getSearchIdGroups() {
+		return searchIdGroups;
+	}
+
+	/**
+	 * 검색 색인으로 찾은 게시글 번호를 지정한다. DB에서는 이 게시글들 안에서만 검색한다.
+	 * 
+	 * @param searchIds 게시글 번호 목록. null 이라면 색인을 사용하지 않는다.
+	 */
+	public void setSearchIds(List<Integer> searchIds) {
+		if (searchIds == null) {
+			this.searchIdGroups = null;
+			return;
+		}
+
+		this.searchIdGroups = new ArrayList<>();
+		for (int i = 0; i < searchIds.size(); i += 1000) {
+			this.searchIdGroups.add(searchIds.subList(i,
+					Math.min(i + 1000, searchIds.size())));
+		}
+	}
+
 }
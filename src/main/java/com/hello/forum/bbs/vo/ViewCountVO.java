@@ -0,0 +1,42 @@
+package com.hello.forum.bbs.vo;
+
+/**
+ * 게시글별로 모아둔 조회수 증가량
+ */
+public class ViewCountVO {
+
+	/**
+	 * 게시글 번호
+	 */
+	private int id;
+
+	/**
+	 * 증가시킬 조회수
+	 */
+	private long increase;
+
+	public ViewCountVO() {
+	}
+
+	public ViewCountVO(int id, long increase) {
+		this.id = id;
+		this.increase = increase;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public long getIncrease() {
+		return increase;
+	}
+
+	public void setIncrease(long increase) {
+		this.increase = increase;
+	}
+
+}
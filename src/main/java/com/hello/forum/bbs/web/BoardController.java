@@ -1,16 +1,8 @@
 package com.hello.forum.bbs.web;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.util.List;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,21 +18,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.hello.forum.bbs.service.BoardImportJobManager;
 import com.hello.forum.bbs.service.BoardService;
+import com.hello.forum.bbs.service.ViewCountBuffer;
+import com.hello.forum.bbs.vo.BoardImportJobVO;
+import com.hello.forum.bbs.vo.BoardImportRejectedRowVO;
 import com.hello.forum.bbs.vo.BoardListVO;
 import com.hello.forum.bbs.vo.BoardVO;
 import com.hello.forum.bbs.vo.SearchBoardVO;
 import com.hello.forum.beans.FileHandler;
 import com.hello.forum.beans.security.SecurityUser;
-import com.hello.forum.exceptions.MakeXlsxFileException;
 import com.hello.forum.exceptions.PageNotFoundException;
 import com.hello.forum.member.vo.MemberVO;
 import com.hello.forum.utils.AjaxResponse;
 import com.hello.forum.utils.ValidationUtils;
 
-import io.github.seccoding.excel.option.WriteOption;
-import io.github.seccoding.excel.write.ExcelWrite;
+import jakarta.servlet.http.HttpSession;
 
 //import jakarta.validation.Valid;
 
@@ -59,6 +54,12 @@ public class BoardController {
 	@Autowired
 	private BoardService boardService;
 
+	@Autowired
+	private ViewCountBuffer viewCountBuffer;
+
+	@Autowired
+	private BoardImportJobManager boardImportJobManager;
+
 	@GetMapping("/board/search")
 	public String viewBoardListPage(Model model, SearchBoardVO searchBoardVO) {
 		BoardListVO boardListVO = this.boardService
@@ -137,11 +138,13 @@ public class BoardController {
 	// ?id=1&subject=abc <-- Parameter Key: id, Parameter Value: 1 / Parameter
 	// Key: subject, Parameter Value: abc
 	@GetMapping("/board/view")
-	public String viewBoardDetailPage(@RequestParam int id, Model model) {
+	public String viewBoardDetailPage(@RequestParam int id, Model model,
+			HttpSession session) {
 
 		// 1. boardService에게 파라미터로 전달받은 id 값을 보내준다.
 		// 2. boardService는 파라미터로 전달받은 id의 게시글 정보를 조회해서 반환해주면
-		BoardVO boardVO = this.boardService.getOneBoard(id, true);
+		BoardVO boardVO = this.boardService.getOneBoard(id,
+				this.viewCountBuffer.isCountable(session, id));
 
 		// 3. boardview 페이지에 데이터를 전송해준다.
 		model.addAttribute("boardVO", boardVO);
@@ -294,115 +297,88 @@ public class BoardController {
 
 	@GetMapping("/board/excel/download2")
 	public ResponseEntity<Resource> downloadExcelFile2() {
-		BoardListVO boardListVO = this.boardService.getAllBoard();
-
-		WriteOption<BoardVO> writeOption = new WriteOption<>();
-		writeOption.setFileName("게시글_목록.xlsx");
-		writeOption.setFilePath("C:\\uploadFiles");
-		writeOption.setContents(boardListVO.getBoardList());
-
-		File excelFile = ExcelWrite.write(writeOption);
+		File excelFile = this.boardService.writeAllBoardToExcelFile(
+				"C:\\uploadFiles", "게시글_목록.xlsx");
 
 		return this.fileHandler.download("게시글_목록.xlsx", excelFile.getName());
 	}
 
+	/**
+	 * 모든 게시글을 엑셀 파일로 다운로드한다. 서버에 파일을 만들지 않고 조회되는 게시글을 바로 Response로 쓴다.
+	 * format 이 csv, tsv 라면 엑셀 파일 대신 CSV, TSV 파일로 다운로드한다. (gzip=true 라면 압축한다)
+	 */
 	@GetMapping("/board/excel/download")
-	public ResponseEntity<Resource> downloadExcelFile() {
-
-		BoardListVO boardListVO = this.boardService.getAllBoard();
-
-		Workbook workbook = new SXSSFWorkbook(-1);
-		Sheet sheet = workbook.createSheet("게시글 목록");
-		Row row = sheet.createRow(0);
-
-		Cell cell = row.createCell(0);
-		cell.setCellValue("번호");
-
-		cell = row.createCell(1);
-		cell.setCellValue("제목");
-
-		cell = row.createCell(2);
-		cell.setCellValue("첨부파일명");
-
-		cell = row.createCell(3);
-		cell.setCellValue("작성자이메일");
-
-		cell = row.createCell(4);
-		cell.setCellValue("조회수");
-
-		cell = row.createCell(5);
-		cell.setCellValue("등록일");
-
-		cell = row.createCell(6);
-		cell.setCellValue("수정일");
-
-		List<BoardVO> boardList = boardListVO.getBoardList();
-		int rowIndex = 1;
-
-		for (BoardVO boardVO : boardList) {
-			row = sheet.createRow(rowIndex);
-
-			cell = row.createCell(0);
-			cell.setCellValue("" + boardVO.getId());
-
-			cell = row.createCell(1);
-			cell.setCellValue(boardVO.getSubject());
-
-			cell = row.createCell(2);
-			cell.setCellValue(boardVO.getOriginFileName());
-
-			cell = row.createCell(3);
-			cell.setCellValue(boardVO.getEmail());
+	public ResponseEntity<StreamingResponseBody> downloadExcelFile(
+			@RequestParam(defaultValue = "xlsx") String format,
+			@RequestParam(defaultValue = "false") boolean gzip) {
+		if (format.equalsIgnoreCase("csv") || format.equalsIgnoreCase("tsv")) {
+			char delimiter = format.equalsIgnoreCase("tsv") ? '\t' : ',';
+			String fileName = "게시글_목록." + format.toLowerCase()
+					+ (gzip ? ".gz" : "");
+
+			return this.fileHandler.download(fileName,
+					outputStream -> this.boardService.writeAllBoardToDelimited(
+							outputStream, delimiter, gzip));
+		}
 
-			cell = row.createCell(4);
-			cell.setCellValue(boardVO.getViewCnt());
+		if (!format.equalsIgnoreCase("xlsx")) {
+			throw new PageNotFoundException();
+		}
 
-			cell = row.createCell(5);
-			cell.setCellValue(boardVO.getCrtDt());
+		return this.fileHandler.download("게시글_목록.xlsx",
+				outputStream -> this.boardService
+						.writeAllBoardToExcel(outputStream));
+	}
 
-			cell = row.createCell(6);
-			cell.setCellValue(boardVO.getMdfyDt());
+	/**
+	 * 엑셀파일로 게시글을 대량등록한다. 등록은 별도의 Thread에서 진행되며, 작업 번호를 바로 반환한다.
+	 * 진행상황은 /ajax/board/excel/write/{jobId} 로 조회한다.
+	 */
+	@ResponseBody
+	@PostMapping("/ajax/board/excel/write")
+	public AjaxResponse doExcelUpload(@RequestParam MultipartFile excelFile,
+			Authentication authentication) {
 
-			rowIndex += 1;
-		}
+		BoardImportJobVO importJobVO = this.boardImportJobManager
+				.submit(excelFile, authentication.getName());
 
-		File storedFile = this.fileHandler.makeNewFile("게시글_목록.xlsx");
-		OutputStream os = null;
-
-		try {
-			os = new FileOutputStream(storedFile);
-			workbook.write(os);
-		} catch (IOException e) {
-			throw new MakeXlsxFileException();
-		} finally {
-			try {
-				workbook.close();
-			} catch (IOException e) {
-			}
-
-			if (os != null) {
-				try {
-					os.flush();
-				} catch (IOException e) {
-				}
-				try {
-					os.close();
-				} catch (IOException e) {
-				}
-			}
+		if (importJobVO == null) {
+			return new AjaxResponse().append("result", false)
+					.append("errorMessage", "엑셀파일을 업로드할 수 없습니다.");
 		}
 
-		return this.fileHandler.download("게시글_목록.xlsx", storedFile.getName());
+		return new AjaxResponse().append("result", true)
+				.append("jobId", importJobVO.getJobId())
+				.append("progress",
+						"/ajax/board/excel/write/" + importJobVO.getJobId());
 	}
 
 	@ResponseBody
-	@PostMapping("/ajax/board/excel/write")
-	public AjaxResponse doExcelUpload(@RequestParam MultipartFile excelFile) {
+	@GetMapping("/ajax/board/excel/write/{jobId}")
+	public AjaxResponse viewExcelUploadProgress(@PathVariable String jobId) {
+
+		BoardImportJobVO importJobVO = this.boardImportJobManager
+				.getJob(jobId);
 
-		boolean isSuccess = this.boardService.createMassiveBoard2(excelFile);
+		if (importJobVO == null) {
+			throw new PageNotFoundException();
+		}
 
-		return new AjaxResponse().append("result", isSuccess).append("next",
-				"/board/search");
+		List<Integer> failedRows = importJobVO.getFailedRows();
+		List<BoardImportRejectedRowVO> rejectedRows = importJobVO
+				.getRejectedRows();
+
+		return new AjaxResponse().append("jobId", importJobVO.getJobId())
+				.append("status", importJobVO.getStatus())
+				.append("finished", importJobVO.isFinished())
+				.append("parsedCount", importJobVO.getParsedCount())
+				.append("insertedCount", importJobVO.getInsertedCount())
+				.append("failedCount", failedRows.size())
+				.append("failedRows", failedRows)
+				.append("rejectedCount", rejectedRows.size())
+				.append("rejectedRows", rejectedRows)
+				.append("errorMessage", importJobVO.getErrorMessage())
+				.append("next", "/board/search");
 	}
 
 }
@@ -20,6 +20,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hello.forum.exceptions.FileNotExistsException;
 
@@ -272,21 +273,7 @@ public class FileHandler {
 		// 사용자에게 다운로드할 파일을 가져온다.
 		File downloadFile = new File(this.baseDir, fileName);
 
-		// 사용자에게 다운로드할 파일의 이름을 셋팅한다.
-		// MS, Linux, Mac, 브라우저 별로 셋팅이 달란다.
-
-		// 동작중인 서버가 Windows 일 경우, 파일의 이름을 Windows 전용 인코딩으로 변경해야한다.
-		String newFileName = originFileName;
-		try {
-			newFileName = new String(originFileName.getBytes("UTF-8"),
-					"ISO-8859-1");
-		} catch (UnsupportedEncodingException e) {
-			logger.error(e.getMessage(), e);
-		}
-
-		HttpHeaders header = new HttpHeaders();
-		header.add(HttpHeaders.CONTENT_DISPOSITION,
-				"attachment; filename=" + newFileName);
+		HttpHeaders header = this.makeDownloadHeader(originFileName);
 
 		// 사용자에게 다운로드할 준비를 진행한다.
 		InputStreamResource resource;
@@ -305,6 +292,47 @@ public class FileHandler {
 				.body(resource);
 	}
 
+	/**
+	 * 서버에 파일을 만들지 않고, 만들어지는 내용을 바로 사용자에게 다운로드 한다.
+	 * 
+	 * @param originFileName 사용자가 다운로드 받을 파일의 이름
+	 * @param body           다운로드할 내용을 Response의 OutputStream에 쓰는 Stream
+	 * @return 다운로드 스트림
+	 */
+	public ResponseEntity<StreamingResponseBody> download(
+			String originFileName, StreamingResponseBody body) {
+		HttpHeaders header = this.makeDownloadHeader(originFileName);
+
+		// 파일의 크기를 미리 알 수 없으므로 Content-Length 는 지정하지 않는다.
+		return ResponseEntity.ok().headers(header)
+				.contentType(MediaType.parseMediaType("application/donwload"))
+				.body(body);
+	}
+
+	/**
+	 * 사용자에게 다운로드할 파일의 이름을 셋팅한다.
+	 * 
+	 * @param originFileName 사용자가 다운로드 받을 파일의 이름
+	 * @return Content-Disposition 헤더
+	 */
+	private HttpHeaders makeDownloadHeader(String originFileName) {
+		// MS, Linux, Mac, 브라우저 별로 셋팅이 달란다.
+
+		// 동작중인 서버가 Windows 일 경우, 파일의 이름을 Windows 전용 인코딩으로 변경해야한다.
+		String newFileName = originFileName;
+		try {
+			newFileName = new String(originFileName.getBytes("UTF-8"),
+					"ISO-8859-1");
+		} catch (UnsupportedEncodingException e) {
+			logger.error(e.getMessage(), e);
+		}
+
+		HttpHeaders header = new HttpHeaders();
+		header.add(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=" + newFileName);
+		return header;
+	}
+
 	public class StoredFile {
 		private String fileName;
 		private String realFileName;
@@ -124,6 +124,9 @@ public class SecurityConfig {
 				.requestMatchers(AntPathRequestMatcher
 						.antMatcher("/ajax/board/excel/write"))
 				.hasRole("ADMIN") //
+				.requestMatchers(AntPathRequestMatcher
+						.antMatcher("/ajax/board/excel/write/**"))
+				.hasRole("ADMIN") //
 				.anyRequest() // 그 외 나머지 URL들은 Security 인증이 반드시
 								// 필요하며, 인증이 안되어있다면
 								// 로그인 페이지로 이동시킨다.
@@ -0,0 +1,11 @@
+package com.hello.forum.exceptions;
+
+public class TooManyImportJobsException extends RuntimeException {
+
+	private static final long serialVersionUID = 6103958241871503394L;
+
+	public TooManyImportJobsException() {
+		super("진행중인 대량등록 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+	}
+
+}
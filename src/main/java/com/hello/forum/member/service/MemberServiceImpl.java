@@ -3,7 +3,10 @@ package com.hello.forum.member.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.hello.forum.bbs.service.BoardCache;
 import com.hello.forum.beans.SHA;
 import com.hello.forum.exceptions.AlreadyUseException;
 import com.hello.forum.member.dao.MemberDao;
@@ -18,6 +21,9 @@ public class MemberServiceImpl implements MemberService {
 	@Autowired
 	private MemberDao memberDao;
 
+	@Autowired
+	private BoardCache boardCache;
+
 	@Transactional
 	@Override
 	public boolean createNewMember(MemberVO memberVO) {
@@ -46,7 +52,29 @@ public class MemberServiceImpl implements MemberService {
 	@Transactional
 	@Override
 	public boolean deleteMe(String email) {
-		return this.memberDao.deleteMemberByEmail(email) > 0;
+		int deletedCount = this.memberDao.deleteMemberByEmail(email);
+		this.invalidateBoardCache(email);
+		return deletedCount > 0;
+	}
+
+	/**
+	 * 회원이 작성한 게시글을 BoardCache 에서 지운다. Commit 되기 전에 다른 요청이 이전 회원 정보로 게시글을
+	 * 다시 보관할 수 있으므로 Commit 이후에 한 번 더 지운다.
+	 * 
+	 * @param email 회원의 이메일
+	 */
+	private void invalidateBoardCache(String email) {
+		this.boardCache.invalidateByEmail(email);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager
+					.registerSynchronization(new TransactionSynchronization() {
+						@Override
+						public void afterCommit() {
+							MemberServiceImpl.this.boardCache
+									.invalidateByEmail(email);
+						}
+					});
+		}
 	}
 
 }
@@ -1,6 +1,8 @@
 package io.github.seccoding.excel.option;
 
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.apache.poi.ss.util.CellReference;
@@ -22,6 +24,11 @@ public class ReadOption {
 	 */
 	private String filePath;
 	
+	/**
+	 * 읽어올 Excel 파일의 내용. 지정되었다면 filePath 대신 사용한다.
+	 */
+	private InputStream inputStream;
+	
 	/**
 	 * 읽어올 Excel 시트 이름
 	 */
@@ -29,16 +36,32 @@ public class ReadOption {
 	
 	/**
 	 * Excel에서 읽어올 Column.
+	 * 지정된 Column 만 읽는다. (이전에는 지정된 Column 중 가장 뒤의 Column 까지 모두 읽었다)
 	 */
 	private List<String> outputColumns;
 	
-	private List<Short> outputColumnIndex;
+	/**
+	 * 읽어올 Column 번호(A=0, B=1 ...). Cell 마다 확인하므로 outputColumns 를 지정할 때 미리 만들어 둔다.
+	 */
+	private BitSet outputColumnSet = new BitSet();
+	
+	private int[] outputColumnIndexes = new int[0];
 	
 	/**
 	 * Excel에서 추출을 시작하고 싶은 Row.
 	 */
 	private int startRow;
 	
+	/**
+	 * Excel에서 추출을 끝내고 싶은 Row. 0 이라면 시트의 끝까지 읽는다.
+	 */
+	private int endRow;
+	
+	/**
+	 * &#64;Require 컬럼의 값이 비어있는 Row를 만나면 읽기를 멈출지 여부.
+	 */
+	private boolean stopAtEmptyRequire = true;
+	
 	/**
 	 * 읽어올 Excel 파일의 위치를 가져온다.
 	 * @return
@@ -55,6 +78,19 @@ public class ReadOption {
 		this.filePath = filePath;
 	}
 	
+	public InputStream getInputStream() {
+		return inputStream;
+	}
+	
+	/**
+	 * 파일로 저장하지 않고 InputStream 에서 Excel 파일을 읽는다. (예: 업로드된 파일)
+	 * xls, xlsx 는 파일의 내용으로 구분한다. InputStream 은 한 번만 읽을 수 있으며, 닫지 않는다.
+	 * @param inputStream
+	 */
+	public void setInputStream(InputStream inputStream) {
+		this.inputStream = inputStream;
+	}
+	
 	/**
 	 * 읽어올 Excel 파일의 시트 이름을 가져온다.
 	 * @return
@@ -87,44 +123,61 @@ public class ReadOption {
 		return temp;
 	}
 	
-	private List<Short> makeAndGetOutputColumnIndex() {
-		if ( this.outputColumns == null ) {
-			return new ArrayList<Short>();
-		}
+	private void makeOutputColumnIndex() {
+		outputColumnSet = new BitSet();
 		
-		outputColumnIndex = new ArrayList<Short>();
-		
-		for (String column : outputColumns) {
-			CellReference cr = new CellReference(column + "1");
-			outputColumnIndex.add(cr.getCol());
+		if ( this.outputColumns != null ) {
+			for (String column : outputColumns) {
+				outputColumnSet.set(CellReference.convertColStringToIndex(column));
+			}
 		}
 		
-		return outputColumnIndex;
-		
+		outputColumnIndexes = outputColumnSet.stream().toArray();
 	}
 	
 	public boolean isOverOutputColumnIndex(String columnName) {
-		columnName = columnName.replaceAll("[0-9]", "");
-		CellReference cr = new CellReference(columnName + "1");
-		
-		short col = cr.getCol();
-		
-		for(short outputIndex : outputColumnIndex) {
-			if ( col <= outputIndex ) {
-				return false;
-			}
+		int length = 0;
+		while ( length < columnName.length() && Character.isLetter(columnName.charAt(length)) ) {
+			length++;
 		}
-		return true;
+		
+		return isOverOutputColumnIndex(CellReference.convertColStringToIndex(columnName.substring(0, length)));
+	}
+	
+	/**
+	 * 컬럼 번호(A=0, B=1 ...)가 읽어올 Column 보다 뒤에 있는지 확인한다.
+	 * Cell 마다 호출되므로 컬럼 이름을 만들거나 해석하지 않는다.
+	 */
+	public boolean isOverOutputColumnIndex(int col) {
+		return col >= outputColumnSet.length();
 	}
 	
 	/**
-	 * Excel에서 읽어올 Column을 지정한다.
+	 * 컬럼 번호(A=0, B=1 ...)가 읽어올 Column 인지 확인한다.
+	 * outputColumns 는 읽을 Column 의 상한이 아니라 정확한 목록이므로, 목록 사이의 Column 도 읽지 않는다.
+	 * (예: A, C 를 지정하면 B 는 읽지 않는다. &#64;Require 컬럼도 목록에 없다면 읽지 않으며 값을 확인하지 않는다)
+	 */
+	public boolean isOutputColumn(int col) {
+		return col >= 0 && outputColumnSet.get(col);
+	}
+	
+	/**
+	 * 읽어올 Column 번호(A=0, B=1 ...)를 작은 번호부터 가져온다.
+	 * @return int[] 읽어올 Column 번호
+	 */
+	public int[] getOutputColumnIndexes() {
+		return outputColumnIndexes.clone();
+	}
+	
+	/**
+	 * Excel에서 읽어올 Column을 지정한다. 지정된 Column 만 읽는다.
 	 * @param List<String>
 	 */
 	public void setOutputColumns(List<String> outputColumns) {
 		
 		if ( outputColumns == null ) {
 			this.outputColumns = null;
+			this.makeOutputColumnIndex();
 			return;
 		}
 		
@@ -138,17 +191,18 @@ public class ReadOption {
 		this.outputColumns.clear();
 		this.outputColumns = temp;
 		
-		this.makeAndGetOutputColumnIndex();
+		this.makeOutputColumnIndex();
 	}
 	
 	/**
-	 * Excel에서 읽어올 Column을 지정한다.
+	 * Excel에서 읽어올 Column을 지정한다. 지정된 Column 만 읽는다.
 	 * @param String[] 가변길이로 지정함.
 	 */
 	public void setOutputColumns(String outputColumn, String ... outputColumns) {
 		
 		if ( outputColumns == null ) {
 			this.outputColumns = null;
+			this.makeOutputColumnIndex();
 			return;
 		}
 		
@@ -163,7 +217,7 @@ public class ReadOption {
 			this.outputColumns.add(ouputColumn);
 		}
 		
-		this.makeAndGetOutputColumnIndex();
+		this.makeOutputColumnIndex();
 	}
 	
 	/**
@@ -183,6 +237,54 @@ public class ReadOption {
 		this.startRow = startRow;
 	}
 	
+	/**
+	 * Excel에서 추출을 끝내고 싶은 Row를 가져온다.
+	 * @return int 추출 끝 번호. 0 이라면 시트의 끝까지 읽는다.
+	 */
+	public int getEndRow() {
+		return endRow;
+	}
+	
+	/**
+	 * Excel에서 추출을 끝내고 싶은 Row를 지정한다. (포함)
+	 * Excel문서와 동일하게 1부터 시작하며, 0 이라면 시트의 끝까지 읽는다.
+	 * @param int 추출 끝 번호
+	 */
+	public void setEndRow(int endRow) {
+		this.endRow = endRow;
+	}
+	
+	/**
+	 * Excel에서 추출할 Row의 범위를 지정한다. (startRow, endRow 포함)
+	 * @param startRow 추출 시작 번호
+	 * @param endRow 추출 끝 번호. 0 이라면 시트의 끝까지 읽는다.
+	 */
+	public void setRowRange(int startRow, int endRow) {
+		this.setStartRow(startRow);
+		this.setEndRow(endRow);
+	}
+	
+	public boolean isStopAtEmptyRequire() {
+		return stopAtEmptyRequire;
+	}
+	
+	/**
+	 * &#64;Require 컬럼의 값이 비어있는 Row를 만나면 읽기를 멈출지 지정한다. (기본값 true)
+	 * false 라면 멈추지 않고 해당 Row도 전달하므로, 비어있는 이유를 호출한 쪽에서 알려줄 수 있다.
+	 * 이때 읽어올 Column 의 값이 하나도 없는 Row는 빈 Row로 보고 건너뛴다.
+	 * @param stopAtEmptyRequire
+	 */
+	public void setStopAtEmptyRequire(boolean stopAtEmptyRequire) {
+		this.stopAtEmptyRequire = stopAtEmptyRequire;
+	}
+	
+	/**
+	 * Row 번호(1부터 시작)가 추출할 범위보다 뒤에 있는지 확인한다.
+	 */
+	public boolean isOverEndRow(int rowNum) {
+		return endRow > 0 && rowNum > endRow;
+	}
+	
 	public void extractOutputColumns(Class<?> clazz) {
 		
 		if ( getOutputColumns().isEmpty() ) {
@@ -3,7 +3,12 @@ package io.github.seccoding.excel.option;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import io.github.seccoding.excel.annotations.ExcelSheet;
 
@@ -55,6 +60,28 @@ public class WriteOption<T> {
 	 */
 	private List<T> contents;
 	
+	/**
+	 * Iterator, Stream, Supplier 로 전달된 엑셀 문서의 내용.
+	 * 첫 번째 내용(firstContent)은 Sheet 명과 타이틀을 만들기 위해 미리 읽어둔다.
+	 */
+	private Iterator<T> contentIterator;
+	private T firstContent;
+	
+	/**
+	 * 한 Sheet 에 작성할 내용의 수. 0 이라면 모든 내용을 한 Sheet 에 작성한다.
+	 */
+	private int sheetPartitionSize;
+	
+	/**
+	 * 나눠진 Sheet 들을 동시에 작성할 스레드의 수. (xlsx 만 가능)
+	 */
+	private int parallelism = 1;
+	
+	/**
+	 * CSV, TSV 파일에서 수식으로 실행될 수 있는 문자열 값의 앞에 ' 를 붙일지 여부. (CSV Injection 방지)
+	 */
+	private boolean escapeFormula;
+	
 	/**
 	 * 엑셀 파일의 경로를 가져온다.
 	 * @return String 엑셀 파일의 절대 경로
@@ -95,15 +122,63 @@ public class WriteOption<T> {
 		return sheetName;
 	}
 	/**
-	 * 엑셀 문서 내의 Sheet 명을 정의한다. 단 하나의 Sheet만 생성할 수 있다.
+	 * 엑셀 문서 내의 Sheet 명을 정의한다.
+	 * sheetPartitionSize 로 Sheet 를 나눴다면 두 번째 Sheet 부터는 "Sheet 명_2", "Sheet 명_3" ... 으로 만들어진다.
 	 * @param String 엑셀 문서의 Sheet 이름
 	 */
 	public void setSheetName(String sheetName) {
 		this.sheetName = sheetName;
 	}
 	
-	private void setSheetName() {
-		ExcelSheet sheet = contents.get(0).getClass().getAnnotation(ExcelSheet.class);
+	/**
+	 * 한 Sheet 에 작성할 내용의 수를 가져온다.
+	 * @return 0 이라면 Sheet 를 나누지 않는다.
+	 */
+	public int getSheetPartitionSize() {
+		return sheetPartitionSize;
+	}
+	
+	/**
+	 * 내용을 sheetPartitionSize 개씩 나눠 여러 Sheet 에 작성한다.
+	 * 한 Sheet 의 최대 Row 수(xlsx 1,048,576, xls 65,536)보다 많은 내용을 작성할 때 사용한다.
+	 * @param sheetPartitionSize 한 Sheet 에 작성할 내용의 수 (타이틀 제외). 0 이라면 나누지 않는다.
+	 */
+	public void setSheetPartitionSize(int sheetPartitionSize) {
+		this.sheetPartitionSize = sheetPartitionSize;
+	}
+	
+	public int getParallelism() {
+		return parallelism;
+	}
+	
+	/**
+	 * 나눠진 Sheet 들을 동시에 작성할 스레드의 수를 정의한다.
+	 * xlsx 파일이고 sheetPartitionSize 가 지정되었을 때만 사용하며, 결과는 한 스레드로 작성한 것과 같다.
+	 * @param parallelism 1 이라면 한 Sheet 씩 차례로 작성한다.
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+	
+	public boolean isEscapeFormula() {
+		return escapeFormula;
+	}
+	
+	/**
+	 * CSV, TSV 파일로 작성할 때 =, +, -, @, 탭, CR 로 시작하는 문자열 값의 앞에 ' 를 붙인다.
+	 * 사용자가 입력한 값을 내보낼 때 엑셀에서 파일을 열면 값이 수식으로 실행되지 않도록 한다. (CSV Injection)
+	 * 숫자, 날짜 컬럼의 값은 바꾸지 않는다.
+	 * @param escapeFormula true 라면 ' 를 붙인다.
+	 */
+	public void setEscapeFormula(boolean escapeFormula) {
+		this.escapeFormula = escapeFormula;
+	}
+	
+	private void setSheetName(T content) {
+		if ( content == null ) {
+			return;
+		}
+		ExcelSheet sheet = content.getClass().getAnnotation(ExcelSheet.class);
 		this.setSheetName(sheet.value());
 	}
 	
@@ -114,7 +189,9 @@ public class WriteOption<T> {
 	public List<String> getTitles() {
 		
 		List<String> temp = new ArrayList<String>();
-		temp.addAll(this.titles);
+		if ( this.titles != null ) {
+			temp.addAll(this.titles);
+		}
 		
 		return temp;
 	}
@@ -140,9 +217,13 @@ public class WriteOption<T> {
 	
 	/**
 	 * 엑셀 문서에 포함될 내용을 가져온다.
+	 * Iterator, Stream, Supplier 로 내용을 정의했다면 빈 List 를 반환한다. (iterateContents 를 사용)
 	 * @return List<Stirng[]> 엑셀 문서에 포함될 내용
 	 */
 	public List<T> getContents() {
+		if ( this.contents == null ) {
+			return new ArrayList<T>();
+		}
 		
 		List<T> temp = new ArrayList<T>();
 		temp.addAll(this.contents);
@@ -159,8 +240,10 @@ public class WriteOption<T> {
 		temp.addAll(contents);
 		
 		this.contents = temp;
+		this.contentIterator = null;
+		this.firstContent = null;
 		
-		setSheetName();
+		setSheetName(temp.isEmpty() ? null : temp.get(0));
 	}
 	
 	/**
@@ -174,8 +257,106 @@ public class WriteOption<T> {
 		}
 		
 		this.contents = temp;
+		this.contentIterator = null;
+		this.firstContent = null;
+		
+		setSheetName(temp.isEmpty() ? null : temp.get(0));
+	}
+	
+	/**
+	 * 엑셀 문서의 내용을 Iterator 로 정의한다.
+	 * 내용을 List 로 모으지 않고 작성할 때 하나씩 가져오므로, DB Cursor 처럼 많은 데이터를 순서대로 작성할 때 사용한다.
+	 * Iterator 는 한 번만 읽을 수 있으므로 한 번만 작성할 수 있다.
+	 * @param contents
+	 */
+	public void setContents(Iterator<T> contents) {
+		this.contents = null;
+		this.contentIterator = contents;
+		this.firstContent = contents.hasNext() ? contents.next() : null;
+		
+		setSheetName(this.firstContent);
+	}
+	
+	/**
+	 * 엑셀 문서의 내용을 Stream 으로 정의한다. Stream 은 한 번만 작성할 수 있다.
+	 * @param contents
+	 */
+	public void setContents(Stream<T> contents) {
+		setContents(contents.iterator());
+	}
+	
+	/**
+	 * 엑셀 문서의 내용을 Supplier 로 정의한다.
+	 * 작성할 때 Supplier 를 반복해서 호출하며, null 을 반환하면 작성을 마친다.
+	 * @param contents
+	 */
+	public void setContents(Supplier<T> contents) {
+		setContents(new Iterator<T>() {
+			private T next = contents.get();
+			
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+			
+			@Override
+			public T next() {
+				if ( next == null ) {
+					throw new NoSuchElementException();
+				}
+				T current = next;
+				next = contents.get();
+				return current;
+			}
+		});
+	}
+	
+	/**
+	 * 엑셀 문서의 첫 번째 내용을 가져온다. 내용 전체를 복사하거나 읽지 않는다.
+	 * @return 내용이 없다면 null
+	 */
+	public T getFirstContent() {
+		if ( this.contents != null ) {
+			return this.contents.isEmpty() ? null : this.contents.get(0);
+		}
+		return this.firstContent;
+	}
+	
+	/**
+	 * 엑셀 문서의 내용을 처음부터 하나씩 가져온다.
+	 * Iterator, Stream, Supplier 로 내용을 정의했다면 한 번만 호출할 수 있다.
+	 */
+	public Iterator<T> iterateContents() {
+		if ( this.contents != null ) {
+			return this.contents.iterator();
+		}
+		if ( this.contentIterator == null || this.firstContent == null ) {
+			this.contentIterator = null;
+			return Collections.emptyIterator();
+		}
+		
+		Iterator<T> rest = this.contentIterator;
+		T first = this.firstContent;
+		// firstContent 는 타이틀을 만들 때 다시 사용하므로 남겨둔다. (여러 Sheet 로 나눠 작성할 때)
+		this.contentIterator = null;
 		
-		setSheetName();
+		return new Iterator<T>() {
+			private boolean isFirst = true;
+			
+			@Override
+			public boolean hasNext() {
+				return isFirst || rest.hasNext();
+			}
+			
+			@Override
+			public T next() {
+				if ( isFirst ) {
+					isFirst = false;
+					return first;
+				}
+				return rest.next();
+			}
+		};
 	}
 	
 }
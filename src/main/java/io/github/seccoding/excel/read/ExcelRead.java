@@ -1,18 +1,39 @@
 package io.github.seccoding.excel.read;
 
+import java.util.ArrayList;
 import java.util.List;
-
-import org.apache.poi.ss.util.CellReference;
+import java.util.function.Consumer;
 
 import io.github.seccoding.excel.option.ReadOption;
 import io.github.seccoding.excel.util.read.AddData;
-import io.github.seccoding.excel.util.read.GetCell;
-import io.github.seccoding.excel.util.read.GetRow;
+import io.github.seccoding.excel.util.read.GetWorkbook;
 import io.github.seccoding.excel.util.read.PreparedExcelRead;
+import io.github.seccoding.excel.util.read.StreamingSheetReader;
+import io.github.seccoding.excel.util.read.WorkbookCache;
 import io.github.seccoding.excel.util.read.share.ReadShare;
 
+/**
+ * 엑셀 파일을 읽는다.
+ * 
+ * <pre>
+ * 읽는 중의 상태(Workbook, Sheet, Row, Cell)는 호출마다 따로 만들어지므로
+ * 여러 스레드에서 동시에 엑셀 파일을 읽거나, readToList 도중 getValue 를 호출해도 서로 영향을 주지 않는다.
+ * </pre>
+ */
 public class ExcelRead<T> extends PreparedExcelRead<T> {
 
+	/**
+	 * getValue 로 최근에 읽은 엑셀 파일. 파일 전체를 메모리에 올리므로 기본값으로는 4개만 보관한다.
+	 */
+	private static final WorkbookCache WORKBOOK_CACHE = new WorkbookCache(4);
+	
+	/**
+	 * getValue 가 사용하는 캐시를 가져옴. 보관할 파일의 수를 바꾸거나(setMaxSize) 비울 때(invalidate, clear) 사용함
+	 * @return
+	 */
+	public static WorkbookCache getWorkbookCache() {
+		return WORKBOOK_CACHE;
+	}
 	
 	/**
 	 * 엑셀 파일을 읽어옴
@@ -32,35 +53,104 @@ public class ExcelRead<T> extends PreparedExcelRead<T> {
 	 * @return
 	 */
 	public List<T> readToList(ReadOption readOption, Class<?> clazz) {
-		ReadShare.clazz = clazz;
-		ReadShare.readOption = readOption;
-		
-		setup();
-		createResultInstance();
-		
-		makeData(new AddData() {
+		ReadShare share = setup(readOption, clazz);
+		try {
+			createResultInstance(share);
+			
+			List<T> result = new ArrayList<T>();
+			makeData(share, newAddData(share), (rowNum, t) -> result.add(t));
+			
+			return result;
+		}
+		finally {
+			share.close();
+		}
+	}
+	
+	private AddData newAddData(ReadShare share) {
+		return new AddData() {
 			@Override
 			public boolean pushData(int rowIndex) {
-				return addData(rowIndex + 1, GetCell.getValue());
+				return addCell(share, rowIndex + 1);
 			}
-		}, true);
-		
-		return result;
+		};
+	}
+	
+	/**
+	 * 엑셀 파일을 한 Row씩 읽어 consumer 에게 전달함.
+	 * xlsx 파일은 시트 전체를 메모리에 올리지 않고 읽으므로, Row 수와 관계없이 메모리 사용량이 일정함.
+	 * (xls 파일은 시트 전체를 메모리에 올린 뒤 전달함)
+	 * ReadOption 에 InputStream 을 지정했다면 파일로 저장하지 않고 InputStream 에서 읽음
+	 * @param readOption
+	 * @param clazz
+	 * @param consumer Row마다 만들어진 VO를 처리할 Consumer
+	 * @return 읽은 Row의 수
+	 */
+	public int readStream(ReadOption readOption, Class<?> clazz, Consumer<T> consumer) {
+		return readStreamWithRowNumber(readOption, clazz, (rowNum, t) -> consumer.accept(t));
+	}
+	
+	/**
+	 * 엑셀 파일을 한 Row씩 읽어 Row 번호(1부터 시작)와 함께 consumer 에게 전달함.
+	 * 건너뛴 Row가 있어도 엑셀 문서의 Row 번호를 전달하므로, 오류를 알려줄 때 사용할 수 있음
+	 * (xls 파일은 시트 전체를 메모리에 올린 뒤 전달함)
+	 * @param readOption
+	 * @param clazz
+	 * @param consumer Row마다 Row 번호와 만들어진 VO를 처리할 RowConsumer
+	 * @return 읽은 Row의 수
+	 */
+	public int readStreamWithRowNumber(ReadOption readOption, Class<?> clazz, RowConsumer<T> consumer) {
+		if ( GetWorkbook.isXlsx(readOption) ) {
+			return new StreamingSheetReader<T>(readOption, clazz, consumer).read();
+		}
 		
+		ReadShare share = setup(readOption, clazz);
+		try {
+			createResultInstance(share);
+			
+			int[] readCount = { 0 };
+			makeData(share, newAddData(share), (rowNum, t) -> {
+				consumer.accept(rowNum, t);
+				readCount[0]++;
+			});
+			
+			return readCount[0];
+		}
+		finally {
+			share.close();
+		}
+	}
+	
+	/**
+	 * 엑셀 파일을 읽어 Cell 의 값을 여러 번 가져올 수 있는 ExcelWorkbook 을 만듬.
+	 * 캐시하지 않으므로 사용이 끝나면 close 해야 함
+	 * @param filePath
+	 * @return
+	 */
+	public ExcelWorkbook openWorkbook(String filePath) {
+		return new ExcelWorkbook(filePath);
 	}
 	
+	/**
+	 * 첫 번째 시트에서 Cell 의 값을 가져옴
+	 * @param filePath
+	 * @param cellName Cell 이름 (예: B2)
+	 * @return
+	 */
 	public String getValue(String filePath, String cellName) {
 		return getValue(filePath, null, cellName);
 	}
 	
+	/**
+	 * 시트에서 Cell 의 값을 가져옴.
+	 * 최근에 읽은 파일은 캐시해두므로, 같은 파일의 Cell 을 여러 번 가져와도 파일을 다시 읽지 않음 (파일이 바뀌었다면 다시 읽음)
+	 * @param filePath
+	 * @param sheetName 시트 이름. null 이라면 첫 번째 시트
+	 * @param cellName Cell 이름 (예: B2)
+	 * @return
+	 */
 	public String getValue(String filePath, String sheetName, String cellName) {
-		setup(filePath, sheetName);
-		
-		CellReference cr = new CellReference(cellName);
-		GetRow.setRow(cr.getRow());
-		GetCell.setCell(cr.getCol());
-		
-		return GetCell.getValue();
+		return WORKBOOK_CACHE.getValue(filePath, sheetName, cellName);
 	}
 	
 }
@@ -0,0 +1,113 @@
+package io.github.seccoding.excel.read;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+
+import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.util.read.GetCell;
+import io.github.seccoding.excel.util.read.GetRow;
+import io.github.seccoding.excel.util.read.GetSheet;
+import io.github.seccoding.excel.util.read.GetWorkbook;
+import io.github.seccoding.excel.util.read.share.ReadShare;
+
+/**
+ * 한 번 열어둔 엑셀 파일에서 Cell 의 값을 여러 번 가져온다.
+ *
+ * <pre>
+ * ExcelRead.getValue 는 호출마다 파일 전체를 다시 읽지만,
+ * ExcelWorkbook 은 파일을 한 번만 읽고 열어둔 Workbook 에서 Cell 을 찾는다.
+ * 파일은 Workbook 을 만든 뒤 바로 닫으므로 파일 핸들을 잡고 있지 않다.
+ *
+ * 여러 스레드에서 함께 사용할 수 있다. (Cell 을 찾는 동안은 한 스레드만 Workbook 을 사용한다)
+ * </pre>
+ */
+public class ExcelWorkbook implements Closeable {
+
+	private final String filePath;
+
+	/**
+	 * Workbook 을 읽을 때의 파일 수정 시각과 크기. 파일이 바뀌었는지 확인할 때 사용한다.
+	 */
+	private final long lastModified;
+	private final long length;
+
+	private Workbook wb;
+
+	/**
+	 * filePath 의 엑셀 파일(xls, xlsx)을 읽어 연다.
+	 * @param filePath
+	 */
+	public ExcelWorkbook(String filePath) {
+		File file = new File(filePath);
+		this.filePath = filePath;
+		this.lastModified = file.lastModified();
+		this.length = file.length();
+		this.wb = GetWorkbook.getWorkbook(filePath);
+	}
+
+	public String getFilePath() {
+		return filePath;
+	}
+
+	/**
+	 * Workbook 을 읽은 뒤 파일이 바뀌지 않았는지 확인한다.
+	 * @return 파일의 수정 시각과 크기가 Workbook 을 읽을 때와 같다면 true
+	 */
+	public boolean isModified() {
+		File file = new File(filePath);
+		return file.lastModified() != lastModified || file.length() != length;
+	}
+
+	/**
+	 * 첫 번째 시트에서 Cell 의 값을 가져온다.
+	 * @param cellName Cell 이름 (예: B2)
+	 * @return Cell 의 값. Cell 이 없다면 빈 문자열
+	 */
+	public String getValue(String cellName) {
+		return getValue(null, cellName);
+	}
+
+	/**
+	 * 시트에서 Cell 의 값을 가져온다.
+	 * @param sheetName 시트 이름. null 이라면 첫 번째 시트
+	 * @param cellName Cell 이름 (예: B2)
+	 * @return Cell 의 값. Cell 이 없다면 빈 문자열
+	 */
+	public synchronized String getValue(String sheetName, String cellName) {
+		if ( wb == null ) {
+			throw new RuntimeException(filePath + " is already closed");
+		}
+
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+
+		ReadShare share = new ReadShare(readOption, null);
+		share.setWb(wb);
+		share.setSheetName(sheetName);
+		GetSheet.set(share);
+
+		CellReference cr = new CellReference(cellName);
+		GetRow.setRow(share, cr.getRow());
+		if ( !GetRow.isNotNull(share) ) {
+			return "";
+		}
+		GetCell.setCell(share, cr.getCol());
+
+		return GetCell.getValue(share);
+	}
+
+	@Override
+	public synchronized void close() {
+		if ( wb != null ) {
+			try {
+				wb.close();
+			} catch (IOException e) {}
+			wb = null;
+		}
+	}
+
+}
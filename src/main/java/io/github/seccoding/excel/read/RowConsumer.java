@@ -0,0 +1,15 @@
+package io.github.seccoding.excel.read;
+
+/**
+ * 엑셀 파일에서 읽은 Row 하나의 VO를 Row 번호와 함께 전달받는다.
+ */
+@FunctionalInterface
+public interface RowConsumer<T> {
+
+	/**
+	 * @param rowNum Row 번호. Excel문서와 동일하게 1부터 시작한다. (건너뛴 Row가 있다면 연속되지 않는다)
+	 * @param t Row 의 값으로 만든 VO
+	 */
+	public void accept(int rowNum, T t);
+	
+}
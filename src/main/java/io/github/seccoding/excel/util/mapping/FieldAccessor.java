@@ -0,0 +1,164 @@
+package io.github.seccoding.excel.util.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * VO 멤버변수 하나의 Getter, Setter.
+ * 
+ * <pre>
+ * 멤버변수를 찾고 접근 권한을 여는 작업은 만들어질 때 한 번만 수행하고,
+ * 이후에는 MethodHandle 로 값을 읽고 쓴다.
+ * 
+ * 기본형(int, long, double, boolean 등) 멤버변수는 double, boolean 으로 바로 읽고 쓰는 MethodHandle 을 따로 만들어
+ * Integer, Double 같은 Wrapper 객체를 만들지 않는다.
+ * 정수형(long, int, short, byte) 멤버변수는 2^53 을 넘는 값도 그대로 넣을 수 있도록 long 으로 쓰는 MethodHandle 도 만든다.
+ * </pre>
+ */
+class FieldAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	
+	private final Field field;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+	
+	/**
+	 * 기본형 멤버변수를 double(숫자), boolean 으로 읽고 쓰는 MethodHandle. 기본형이 아니라면 null
+	 */
+	private final MethodHandle primitiveGetter;
+	private final MethodHandle primitiveSetter;
+	
+	/**
+	 * 정수형 멤버변수에 long 으로 값을 넣는 MethodHandle. 정수형이 아니라면 null
+	 */
+	private final MethodHandle integralSetter;
+	
+	FieldAccessor(Field field) {
+		this.field = field;
+		
+		try {
+			field.setAccessible(true);
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle rawGetter = lookup.unreflectGetter(field);
+			MethodHandle rawSetter = lookup.unreflectSetter(field);
+			this.getter = rawGetter.asType(GETTER_TYPE);
+			this.setter = rawSetter.asType(SETTER_TYPE);
+			
+			Class<?> type = field.getType();
+			if ( type.isPrimitive() ) {
+				// 숫자는 double 로 통일한다. (double -> int 등은 형변환, int -> double 은 확장)
+				Class<?> valueType = type == boolean.class ? boolean.class : double.class;
+				this.primitiveGetter = MethodHandles.explicitCastArguments(rawGetter, MethodType.methodType(valueType, Object.class));
+				this.primitiveSetter = MethodHandles.explicitCastArguments(rawSetter, MethodType.methodType(void.class, Object.class, valueType));
+			}
+			else {
+				this.primitiveGetter = null;
+				this.primitiveSetter = null;
+			}
+			
+			if ( isIntegral(type) ) {
+				this.integralSetter = MethodHandles.explicitCastArguments(rawSetter, MethodType.methodType(void.class, Object.class, long.class));
+			}
+			else {
+				this.integralSetter = null;
+			}
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 정수형(long, int, short, byte) 기본형인지 확인한다.
+	 */
+	static boolean isIntegral(Class<?> type) {
+		return type == long.class || type == int.class || type == short.class || type == byte.class;
+	}
+	
+	Field getField() {
+		return field;
+	}
+	
+	Object get(Object obj) {
+		try {
+			return (Object) getter.invokeExact(obj);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	void set(Object obj, Object value) {
+		try {
+			setter.invokeExact(obj, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 기본형 숫자 멤버변수의 값을 double 로 가져온다.
+	 */
+	double getDouble(Object obj) {
+		try {
+			return (double) primitiveGetter.invokeExact(obj);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 기본형 숫자 멤버변수에 값을 넣는다. 멤버변수의 타입으로 형변환된다. (int 라면 소수점 이하는 버린다)
+	 */
+	void setDouble(Object obj, double value) {
+		try {
+			primitiveSetter.invokeExact(obj, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 정수형 멤버변수에 값을 넣는다. 멤버변수의 타입으로 형변환된다.
+	 */
+	void setLong(Object obj, long value) {
+		try {
+			integralSetter.invokeExact(obj, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	boolean getBoolean(Object obj) {
+		try {
+			return (boolean) primitiveGetter.invokeExact(obj);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	void setBoolean(Object obj, boolean value) {
+		try {
+			primitiveSetter.invokeExact(obj, value);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+}
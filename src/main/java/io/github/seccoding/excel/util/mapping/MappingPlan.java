@@ -0,0 +1,166 @@
+package io.github.seccoding.excel.util.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.poi.ss.util.CellReference;
+
+import io.github.seccoding.excel.annotations.Require;
+import io.github.seccoding.excel.annotations.Title;
+
+/**
+ * VO 클래스와 엑셀 컬럼 사이의 매핑 정보.
+ * 
+ * <pre>
+ * 클래스마다 처음 사용될 때 한 번만 만들어지고, 이후에는 만들어진 것을 재사용한다. (변경되지 않으므로 여러 스레드에서 함께 사용해도 된다)
+ * 읽기: 컬럼 번호(A=0, B=1 ...)를 인덱스로 하는 ReadColumn 배열
+ * 쓰기: &#64;Title 멤버변수의 WriteColumn 목록 (선언 순서)
+ * 
+ * 덕분에 Row, Cell 마다 getDeclaredFields, getAnnotation 을 호출하지 않는다.
+ * </pre>
+ */
+public class MappingPlan {
+
+	private static final ClassValue<MappingPlan> PLANS = new ClassValue<MappingPlan>() {
+		@Override
+		protected MappingPlan computeValue(Class<?> type) {
+			return new MappingPlan(type);
+		}
+	};
+	
+	private final Class<?> clazz;
+	
+	/**
+	 * 기본 생성자. 기본 생성자가 없는 클래스라면 null
+	 */
+	private final MethodHandle constructor;
+	
+	private final ReadColumn[] readColumns;
+	
+	private final int[] requiredColumnIndexes;
+	
+	private final List<WriteColumn> writeColumns;
+	
+	/**
+	 * VO 클래스의 매핑 정보를 가져온다.
+	 */
+	public static MappingPlan of(Class<?> clazz) {
+		return PLANS.get(clazz);
+	}
+	
+	private MappingPlan(Class<?> clazz) {
+		this.clazz = clazz;
+		this.constructor = findConstructor(clazz);
+		
+		TreeMap<Integer, List<FieldAccessor>> columnAccessors = new TreeMap<Integer, List<FieldAccessor>>();
+		Set<Integer> requiredColumns = new TreeSet<Integer>();
+		List<WriteColumn> writeColumns = new ArrayList<WriteColumn>();
+		
+		for (Field field : clazz.getDeclaredFields()) {
+			io.github.seccoding.excel.annotations.Field column = field.getAnnotation(io.github.seccoding.excel.annotations.Field.class);
+			boolean isTitle = field.isAnnotationPresent(Title.class);
+			if ( column == null && !isTitle ) {
+				continue;
+			}
+			
+			FieldAccessor accessor = new FieldAccessor(field);
+			
+			if ( column != null ) {
+				int columnIndex = CellReference.convertColStringToIndex(column.value().toUpperCase());
+				if ( !columnAccessors.containsKey(columnIndex) ) {
+					columnAccessors.put(columnIndex, new ArrayList<FieldAccessor>());
+				}
+				columnAccessors.get(columnIndex).add(accessor);
+				
+				if ( field.isAnnotationPresent(Require.class) ) {
+					requiredColumns.add(columnIndex);
+				}
+			}
+			
+			if ( isTitle ) {
+				writeColumns.add(new WriteColumn(accessor));
+			}
+		}
+		
+		int numOfColumns = columnAccessors.isEmpty() ? 0 : columnAccessors.lastKey() + 1;
+		this.readColumns = new ReadColumn[numOfColumns];
+		for (Map.Entry<Integer, List<FieldAccessor>> entry : columnAccessors.entrySet()) {
+			int columnIndex = entry.getKey();
+			readColumns[columnIndex] = new ReadColumn(columnIndex, entry.getValue(), requiredColumns.contains(columnIndex));
+		}
+		
+		this.requiredColumnIndexes = new int[requiredColumns.size()];
+		int i = 0;
+		for (int columnIndex : requiredColumns) {
+			requiredColumnIndexes[i++] = columnIndex;
+		}
+		
+		this.writeColumns = Collections.unmodifiableList(writeColumns);
+	}
+	
+	private static MethodHandle findConstructor(Class<?> clazz) {
+		try {
+			Constructor<?> constructor = clazz.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException e) {
+			return null;
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 기본 생성자로 VO 를 만든다.
+	 */
+	public Object newInstance() {
+		if ( constructor == null ) {
+			throw new RuntimeException(clazz.getName() + " has no default constructor.");
+		}
+		
+		try {
+			return (Object) constructor.invokeExact();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 컬럼 번호에 매핑된 멤버변수들을 가져온다.
+	 * @param columnIndex 컬럼 번호 (A=0, B=1 ...)
+	 * @return 매핑된 멤버변수가 없다면 null
+	 */
+	public ReadColumn getReadColumn(int columnIndex) {
+		if ( columnIndex < 0 || columnIndex >= readColumns.length ) {
+			return null;
+		}
+		return readColumns[columnIndex];
+	}
+	
+	/**
+	 * &#64;Require 가 붙은 컬럼 번호들을 가져온다.
+	 */
+	public int[] getRequiredColumnIndexes() {
+		return requiredColumnIndexes.clone();
+	}
+	
+	/**
+	 * &#64;Title 이 붙은 멤버변수들을 선언 순서대로 가져온다.
+	 */
+	public List<WriteColumn> getWriteColumns() {
+		return writeColumns;
+	}
+	
+}
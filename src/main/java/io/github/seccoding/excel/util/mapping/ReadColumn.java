@@ -0,0 +1,348 @@
+package io.github.seccoding.excel.util.mapping;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+
+/**
+ * 엑셀의 컬럼 하나에 매핑된 &#64;Field 멤버변수들.
+ * 
+ * <pre>
+ * 값을 넣는 방법은 Add.add 와 같다.
+ * List, Set 은 값을 추가하고, Map 은 "셀 이름 + Row 번호"(예: A3)를 Key 로 값을 추가하고, String 은 값을 넣는다.
+ * 
+ * 기본형(int, long, double, boolean 등)과 Wrapper(Integer, Double, Boolean 등),
+ * 날짜(LocalDate, LocalDateTime, Date) 멤버변수는 멤버변수의 타입으로 변환해서 넣는다.
+ * 숫자, Boolean 셀은 setNumber, setBoolean 으로 문자열을 거치지 않고 바로 넣는다.
+ * 정수형(long, int, Long, Integer 등) 멤버변수는 double 을 거치지 않고 long 으로 넣으므로 2^53 을 넘는 값도 바뀌지 않는다.
+ * 값이 비어있다면 넣지 않는다. (기본값 유지)
+ * </pre>
+ */
+public class ReadColumn {
+
+	private static final int LIST = 1;
+	private static final int MAP = 2;
+	private static final int SET = 3;
+	private static final int STRING = 4;
+	private static final int NUMBER = 5;
+	private static final int BOOLEAN = 6;
+	private static final int WRAPPER = 7;
+	private static final int DATE = 8;
+	private static final int INTEGRAL = 9;
+	private static final int NONE = -1;
+	
+	private final int columnIndex;
+	private final FieldAccessor[] accessors;
+	private final int[] types;
+	private final boolean required;
+	
+	/**
+	 * 정수형 멤버변수가 있는지 여부. 숫자 문자열을 long 으로도 정확하게 변환해야 하는지 판단한다.
+	 */
+	private final boolean integral;
+	
+	ReadColumn(int columnIndex, List<FieldAccessor> accessors, boolean required) {
+		this.columnIndex = columnIndex;
+		this.accessors = accessors.toArray(new FieldAccessor[accessors.size()]);
+		this.types = new int[this.accessors.length];
+		boolean integral = false;
+		for ( int i = 0; i < this.accessors.length; i++ ) {
+			Class<?> type = this.accessors[i].getField().getType();
+			this.types[i] = getType(type);
+			integral = integral || this.types[i] == INTEGRAL || isIntegralWrapper(type);
+		}
+		this.required = required;
+		this.integral = integral;
+	}
+	
+	private static int getType(Class<?> type) {
+		if ( type == List.class ) return LIST;
+		if ( type == Map.class ) return MAP;
+		if ( type == Set.class ) return SET;
+		if ( type == String.class ) return STRING;
+		if ( type == boolean.class ) return BOOLEAN;
+		if ( FieldAccessor.isIntegral(type) ) return INTEGRAL;
+		if ( type.isPrimitive() && type != char.class ) return NUMBER;
+		if ( type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+				|| type == Short.class || type == Byte.class || type == Boolean.class ) return WRAPPER;
+		if ( type == LocalDate.class || type == LocalDateTime.class || type == Date.class ) return DATE;
+		return NONE;
+	}
+	
+	private static boolean isIntegralWrapper(Class<?> type) {
+		return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+	}
+	
+	/**
+	 * &#64;Require 가 붙은 컬럼인지 확인한다. 이 컬럼의 값이 비어있다면 읽기를 멈춘다.
+	 */
+	public boolean isRequired() {
+		return required;
+	}
+	
+	/**
+	 * 컬럼에 매핑된 멤버변수들에 문자열 셀의 값을 넣는다.
+	 * @param obj 값을 넣을 VO
+	 * @param rowNum 엑셀의 Row 번호 (1부터 시작)
+	 * @param value 셀의 값
+	 */
+	public void set(Object obj, int rowNum, String value) {
+		for ( int i = 0; i < accessors.length; i++ ) {
+			FieldAccessor accessor = accessors[i];
+			
+			switch ( types[i] ) {
+			case NUMBER:
+				if ( value.length() > 0 ) {
+					accessor.setDouble(obj, parseDouble(accessor, value));
+				}
+				break;
+			case INTEGRAL:
+				if ( value.length() > 0 ) {
+					accessor.setLong(obj, parseLong(accessor, value));
+				}
+				break;
+			case BOOLEAN:
+				if ( value.length() > 0 ) {
+					accessor.setBoolean(obj, parseBoolean(value));
+				}
+				break;
+			case WRAPPER:
+				if ( value.length() > 0 ) {
+					Class<?> type = accessor.getField().getType();
+					if ( type == Boolean.class ) {
+						accessor.set(obj, parseBoolean(value));
+					}
+					else if ( isIntegralWrapper(type) ) {
+						long longValue = parseLong(accessor, value);
+						accessor.set(obj, toWrapper(type, longValue, longValue));
+					}
+					else {
+						double doubleValue = parseDouble(accessor, value);
+						accessor.set(obj, toWrapper(type, (long) doubleValue, doubleValue));
+					}
+				}
+				break;
+			case DATE:
+				if ( value.length() > 0 ) {
+					accessor.set(obj, toDate(accessor, parseDate(accessor, value)));
+				}
+				break;
+			default:
+				setText(accessor, types[i], obj, rowNum, value);
+			}
+		}
+	}
+	
+	/**
+	 * 컬럼에 매핑된 멤버변수들에 숫자 셀의 값을 넣는다. (xls 처럼 셀의 값을 double 로만 알 수 있을 때)
+	 * 기본형 멤버변수에는 문자열이나 Wrapper 객체를 만들지 않고 바로 넣는다.
+	 * 날짜 멤버변수에는 엑셀의 날짜 숫자(1900-01-01 부터의 일 수)로 보고 넣는다.
+	 */
+	public void setNumber(Object obj, int rowNum, double value) {
+		setNumber(obj, rowNum, (long) value, value);
+	}
+	
+	/**
+	 * 컬럼에 매핑된 멤버변수들에 xlsx 숫자 셀의 값(&lt;v&gt; 의 문자열)을 넣는다.
+	 * 18자리 이하의 정수는 문자열을 만들지 않고 계산하고,
+	 * 그 외의 값은 정수형 멤버변수라면 BigDecimal 로 변환해 double 의 정밀도(2^53)를 넘는 값도 그대로 넣는다.
+	 */
+	public void setNumber(Object obj, int rowNum, CharSequence number) {
+		int length = number.length();
+		int start = length > 0 && number.charAt(0) == '-' ? 1 : 0;
+		if ( length - start > 0 && length - start <= 18 ) {
+			long result = 0;
+			int i = start;
+			for ( ; i < length; i++ ) {
+				char ch = number.charAt(i);
+				if ( ch < '0' || ch > '9' ) {
+					break;
+				}
+				result = result * 10 + (ch - '0');
+			}
+			if ( i == length ) {
+				long longValue = start == 1 ? -result : result;
+				setNumber(obj, rowNum, longValue, longValue);
+				return;
+			}
+		}
+		
+		String text = number.toString().trim();
+		try {
+			double doubleValue = Double.parseDouble(text);
+			long longValue = integral ? new BigDecimal(text).longValue() : (long) doubleValue;
+			setNumber(obj, rowNum, longValue, doubleValue);
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("Can not convert [" + text + "] to number (" + CellReference.convertNumToColString(columnIndex) + rowNum + ")", e);
+		}
+	}
+	
+	/**
+	 * 숫자 셀의 값을 넣는다. 정수형 멤버변수에는 longValue, 그 외에는 doubleValue 를 사용한다.
+	 */
+	private void setNumber(Object obj, int rowNum, long longValue, double doubleValue) {
+		for ( int i = 0; i < accessors.length; i++ ) {
+			FieldAccessor accessor = accessors[i];
+			
+			switch ( types[i] ) {
+			case NUMBER:
+				accessor.setDouble(obj, doubleValue);
+				break;
+			case INTEGRAL:
+				accessor.setLong(obj, longValue);
+				break;
+			case BOOLEAN:
+				accessor.setBoolean(obj, doubleValue != 0);
+				break;
+			case WRAPPER:
+				Class<?> type = accessor.getField().getType();
+				accessor.set(obj, type == Boolean.class ? Boolean.valueOf(doubleValue != 0) : toWrapper(type, longValue, doubleValue));
+				break;
+			case DATE:
+				accessor.set(obj, toDate(accessor, DateUtil.getLocalDateTime(doubleValue)));
+				break;
+			default:
+				// readToList 가 숫자를 문자열로 읽던 형태("1.0")를 유지한다.
+				setText(accessor, types[i], obj, rowNum, String.valueOf(doubleValue));
+			}
+		}
+	}
+	
+	/**
+	 * 컬럼에 매핑된 멤버변수들에 Boolean 셀의 값을 넣는다.
+	 */
+	public void setBoolean(Object obj, int rowNum, boolean value) {
+		for ( int i = 0; i < accessors.length; i++ ) {
+			FieldAccessor accessor = accessors[i];
+			
+			switch ( types[i] ) {
+			case NUMBER:
+				accessor.setDouble(obj, value ? 1 : 0);
+				break;
+			case INTEGRAL:
+				accessor.setLong(obj, value ? 1 : 0);
+				break;
+			case BOOLEAN:
+				accessor.setBoolean(obj, value);
+				break;
+			case WRAPPER:
+				Class<?> type = accessor.getField().getType();
+				accessor.set(obj, type == Boolean.class ? Boolean.valueOf(value) : toWrapper(type, value ? 1 : 0, value ? 1 : 0));
+				break;
+			default:
+				setText(accessor, types[i], obj, rowNum, String.valueOf(value));
+			}
+		}
+	}
+	
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void setText(FieldAccessor accessor, int type, Object obj, int rowNum, String value) {
+		switch ( type ) {
+		case STRING:
+			accessor.set(obj, value);
+			break;
+		case LIST:
+			List list = (List) accessor.get(obj);
+			if ( list == null ) {
+				list = new ArrayList();
+				accessor.set(obj, list);
+			}
+			list.add(value);
+			break;
+		case SET:
+			Set set = (Set) accessor.get(obj);
+			if ( set == null ) {
+				set = new HashSet();
+				accessor.set(obj, set);
+			}
+			set.add(value);
+			break;
+		case MAP:
+			Map map = (Map) accessor.get(obj);
+			if ( map == null ) {
+				map = new HashMap();
+				accessor.set(obj, map);
+			}
+			map.put(CellReference.convertNumToColString(columnIndex) + rowNum, value);
+			break;
+		default:
+			throw new RuntimeException(accessor.getField().getType() + " in not support.");
+		}
+	}
+	
+	private static double parseDouble(FieldAccessor accessor, String value) {
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("Can not convert [" + value + "] to " + accessor.getField().getType() + " (" + accessor.getField().getName() + ")", e);
+		}
+	}
+	
+	/**
+	 * 정수형 멤버변수에 넣을 값을 변환한다. double 을 거치지 않으므로 2^53 을 넘는 값도 바뀌지 않는다. (소수점 이하는 버린다)
+	 */
+	private static long parseLong(FieldAccessor accessor, String value) {
+		try {
+			return new BigDecimal(value.trim()).longValue();
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("Can not convert [" + value + "] to " + accessor.getField().getType() + " (" + accessor.getField().getName() + ")", e);
+		}
+	}
+	
+	private static boolean parseBoolean(String value) {
+		String trimmed = value.trim();
+		return "1".equals(trimmed) || "1.0".equals(trimmed) || Boolean.parseBoolean(trimmed);
+	}
+	
+	/**
+	 * 날짜 문자열(yyyy-MM-dd, yyyy-MM-ddTHH:mm:ss) 또는 엑셀의 날짜 숫자를 변환한다.
+	 */
+	private static LocalDateTime parseDate(FieldAccessor accessor, String value) {
+		String trimmed = value.trim();
+		try {
+			if ( trimmed.indexOf('-') > 0 ) {
+				return trimmed.indexOf('T') > 0 ? LocalDateTime.parse(trimmed) : LocalDate.parse(trimmed).atStartOfDay();
+			}
+			return DateUtil.getLocalDateTime(Double.parseDouble(trimmed));
+		} catch (DateTimeParseException | NumberFormatException e) {
+			throw new RuntimeException("Can not convert [" + value + "] to " + accessor.getField().getType() + " (" + accessor.getField().getName() + ")", e);
+		}
+	}
+	
+	private static Object toDate(FieldAccessor accessor, LocalDateTime dateTime) {
+		Class<?> type = accessor.getField().getType();
+		if ( type == LocalDate.class ) {
+			return dateTime.toLocalDate();
+		}
+		if ( type == LocalDateTime.class ) {
+			return dateTime;
+		}
+		return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+	}
+	
+	/**
+	 * 정수형 Wrapper 는 longValue, 실수형 Wrapper 는 doubleValue 로 만든다.
+	 */
+	private static Object toWrapper(Class<?> type, long longValue, double doubleValue) {
+		if ( type == Integer.class ) return Integer.valueOf((int) longValue);
+		if ( type == Long.class ) return Long.valueOf(longValue);
+		if ( type == Double.class ) return Double.valueOf(doubleValue);
+		if ( type == Float.class ) return Float.valueOf((float) doubleValue);
+		if ( type == Short.class ) return Short.valueOf((short) longValue);
+		if ( type == Byte.class ) return Byte.valueOf((byte) longValue);
+		throw new RuntimeException(type + " in not support.");
+	}
+	
+}
@@ -0,0 +1,79 @@
+package io.github.seccoding.excel.util.mapping;
+
+import io.github.seccoding.excel.annotations.Format;
+import io.github.seccoding.excel.annotations.Title;
+
+/**
+ * 엑셀에 작성할 &#64;Title 멤버변수 하나.
+ */
+public class WriteColumn {
+
+	private final FieldAccessor accessor;
+	private final Title title;
+	private final Format format;
+	
+	/**
+	 * 기본형 멤버변수의 타입. 기본형이 아니라면 null
+	 */
+	private final Class<?> primitiveType;
+	
+	WriteColumn(FieldAccessor accessor) {
+		this.accessor = accessor;
+		this.title = accessor.getField().getAnnotation(Title.class);
+		this.format = accessor.getField().getAnnotation(Format.class);
+		
+		Class<?> type = accessor.getField().getType();
+		this.primitiveType = type.isPrimitive() && type != char.class ? type : null;
+	}
+	
+	public Title getTitle() {
+		return title;
+	}
+	
+	public Format getFormat() {
+		return format;
+	}
+	
+	/**
+	 * VO 에서 이 컬럼의 값을 가져온다.
+	 */
+	public Object getValue(Object obj) {
+		return accessor.get(obj);
+	}
+	
+	/**
+	 * 기본형 숫자(int, long, double 등) 멤버변수인지 확인한다. getDouble 로 값을 가져올 수 있다.
+	 */
+	public boolean isNumber() {
+		return primitiveType != null && primitiveType != boolean.class;
+	}
+	
+	/**
+	 * 소수점이 없는 기본형 숫자(byte, short, int, long) 멤버변수인지 확인한다.
+	 */
+	public boolean isIntegral() {
+		return isNumber() && primitiveType != double.class && primitiveType != float.class;
+	}
+	
+	/**
+	 * 기본형 boolean 멤버변수인지 확인한다. getBoolean 으로 값을 가져올 수 있다.
+	 */
+	public boolean isBoolean() {
+		return primitiveType == boolean.class;
+	}
+	
+	/**
+	 * VO 에서 기본형 숫자 컬럼의 값을 Wrapper 객체 없이 가져온다.
+	 */
+	public double getDouble(Object obj) {
+		return accessor.getDouble(obj);
+	}
+	
+	/**
+	 * VO 에서 기본형 boolean 컬럼의 값을 Wrapper 객체 없이 가져온다.
+	 */
+	public boolean getBoolean(Object obj) {
+		return accessor.getBoolean(obj);
+	}
+	
+}
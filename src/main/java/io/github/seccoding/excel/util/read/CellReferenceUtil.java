@@ -1,5 +1,6 @@
 package io.github.seccoding.excel.util.read;
 
+import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.util.CellReference;
 
@@ -8,34 +9,39 @@ import io.github.seccoding.excel.util.read.share.ReadShare;
 
 public class CellReferenceUtil {
 
-	public static String getName(int cellIndex) {
-		return CellReference.convertNumToColString( ReadShare.cell != null ? ReadShare.cell.getColumnIndex() : cellIndex);
+	public static String getName(ReadShare share, int cellIndex) {
+		return CellReference.convertNumToColString( share.getCell() != null ? share.getCell().getColumnIndex() : cellIndex);
 	}
 	
-	public static String getValue() {
-		if(ReadShare.cell == null) {
+	public static int getColumnIndex(ReadShare share, int cellIndex) {
+		return share.getCell() != null ? share.getCell().getColumnIndex() : cellIndex;
+	}
+	
+	public static String getValue(ReadShare share) {
+		Cell cell = share.getCell();
+		if(cell == null) {
 			return "";
 		}
-		if( ReadShare.cell.getCellType() == CellType.FORMULA) {
-			return ReadShare.cell.getCellFormula();
+		if( cell.getCellType() == CellType.FORMULA) {
+			return cell.getCellFormula();
 		}
-		if( ReadShare.cell.getCellType() == CellType.NUMERIC ) {
-			return ReadShare.cell.getNumericCellValue() + "";
+		if( cell.getCellType() == CellType.NUMERIC ) {
+			return cell.getNumericCellValue() + "";
 		}
-		if( ReadShare.cell.getCellType() == CellType.STRING ) {
-			return ReadShare.cell.getStringCellValue();
+		if( cell.getCellType() == CellType.STRING ) {
+			return cell.getStringCellValue();
 		}
-		if( ReadShare.cell.getCellType() == CellType.BOOLEAN ) {
-			return ReadShare.cell.getBooleanCellValue() + "";
+		if( cell.getCellType() == CellType.BOOLEAN ) {
+			return cell.getBooleanCellValue() + "";
 		}
-		if( ReadShare.cell.getCellType() == CellType.ERROR ) {
-			return ReadShare.cell.getErrorCellValue() + "";
+		if( cell.getCellType() == CellType.ERROR ) {
+			return cell.getErrorCellValue() + "";
 		}
-		if( ReadShare.cell.getCellType() == CellType.BLANK ) {
+		if( cell.getCellType() == CellType.BLANK ) {
 			return "";
 		}
 		
-		return ReadShare.cell.getStringCellValue();
+		return cell.getStringCellValue();
 	}
 	
 }
@@ -4,16 +4,20 @@ import io.github.seccoding.excel.util.read.share.ReadShare;
 
 public class GetCell {
 
-	public static void setCell(int cellIndex) {
-		ReadShare.cell = ReadShare.row.getCell(cellIndex);
+	public static void setCell(ReadShare share, int cellIndex) {
+		share.setCell(share.getRow().getCell(cellIndex));
 	}
 	
-	public static String getCellName(int cellIndex) {
-		return CellReferenceUtil.getName(cellIndex);
+	public static String getCellName(ReadShare share, int cellIndex) {
+		return CellReferenceUtil.getName(share, cellIndex);
 	}
 	
-	public static String getValue() {
-		return CellReferenceUtil.getValue();
+	public static int getColumnIndex(ReadShare share, int cellIndex) {
+		return CellReferenceUtil.getColumnIndex(share, cellIndex);
+	}
+	
+	public static String getValue(ReadShare share) {
+		return CellReferenceUtil.getValue(share);
 	}
 	
 }
@@ -4,16 +4,16 @@ import io.github.seccoding.excel.util.read.share.ReadShare;
 
 public class GetRow {
 
-	public static void setRow(int rowIndex) {
-		ReadShare.row = ReadShare.sheet.getRow(rowIndex);
+	public static void setRow(ReadShare share, int rowIndex) {
+		share.setRow(share.getSheet().getRow(rowIndex));
 	}
 	
-	public static boolean isNotNull() {
-		return ReadShare.row != null;
+	public static boolean isNotNull(ReadShare share) {
+		return share.getRow() != null;
 	}
 	
-	public static void setPhysicalNumberOfCells() {
-		ReadShare.numOfCells = ReadShare.row.getPhysicalNumberOfCells();
+	public static void setPhysicalNumberOfCells(ReadShare share) {
+		share.setNumOfCells(share.getRow().getPhysicalNumberOfCells());
 	}
 	
 }
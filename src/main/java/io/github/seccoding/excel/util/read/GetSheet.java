@@ -5,41 +5,44 @@ import io.github.seccoding.excel.util.read.share.ReadShare;
 
 public class GetSheet {
 
-	public static void set() {
-		if ( ReadShare.sheetName == null || ReadShare.sheetName.length() == 0 ) {
-			GetSheet.get(0);
+	public static void set(ReadShare share) {
+		if ( share.getSheetName() == null || share.getSheetName().length() == 0 ) {
+			GetSheet.get(share, 0);
 		}
 		else {
-			GetSheet.get();
+			GetSheet.get(share);
 		}
-		setNumOfRowsAndCells();
+		setNumOfRowsAndCells(share);
 	}
 	
-	public static void get(int index) {
-		ReadShare.sheet = ReadShare.wb.getSheetAt(index);
+	public static void get(ReadShare share, int index) {
+		share.setSheet(share.getWb().getSheetAt(index));
 	}
 	
-	public static void get() {
-		ReadShare.sheet = ReadShare.wb.getSheet(ReadShare.sheetName);
+	public static void get(ReadShare share) {
+		share.setSheet(share.getWb().getSheet(share.getSheetName()));
 	}
 	
-	public static void getSheetName() {
+	public static void getSheetName(ReadShare share) {
 		
-		if ( ReadShare.readOption.getSheetName() == null ) {
-			ExcelSheet sheet = ReadShare.clazz.getAnnotation(ExcelSheet.class);
+		if ( share.getReadOption().getSheetName() != null ) {
+			share.setSheetName(share.getReadOption().getSheetName());
+		}
+		else {
+			ExcelSheet sheet = share.getClazz().getAnnotation(ExcelSheet.class);
 			if ( sheet != null ) {
-				ReadShare.sheetName = sheet.value();
+				share.setSheetName(sheet.value());
 			}
-			set();
 		}
+		set(share);
 	}
 	
-	public static void setNumOfRowsAndCells() {
-		if ( ReadShare.sheet == null ) {
-			throw new RuntimeException("Can not find sheet [" + ReadShare.sheetName + "]");
+	public static void setNumOfRowsAndCells(ReadShare share) {
+		if ( share.getSheet() == null ) {
+			throw new RuntimeException("Can not find sheet [" + share.getSheetName() + "]");
 		}
-		ReadShare.numOfRows = ReadShare.sheet.getPhysicalNumberOfRows();
-		ReadShare.numOfCells = 0;
+		share.setNumOfRows(share.getSheet().getPhysicalNumberOfRows());
+		share.setNumOfCells(0);
 	}
 	
 }
@@ -3,18 +3,60 @@ package io.github.seccoding.excel.util.read;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
+import io.github.seccoding.excel.option.ReadOption;
 import io.github.seccoding.excel.util.read.share.ReadShare;
 import io.github.seccoding.excel.util.write.FileType;
 
 public class GetWorkbook {
 
-	public static void get(String filePath) {
-		ReadShare.wb = getWorkbook(filePath);
+	public static void get(ReadShare share, String filePath) {
+		InputStream inputStream = share.getReadOption().getInputStream();
+		share.setWb(inputStream != null ? getWorkbook(share.getReadOption()) : getWorkbook(filePath));
+	}
+	
+	/**
+	 * 읽을 파일이 xlsx 인지 확인한다. InputStream 으로 읽는다면 파일의 내용으로 구분한다.
+	 */
+	public static boolean isXlsx(ReadOption readOption) {
+		if ( readOption.getInputStream() == null ) {
+			return FileType.isXlsx(readOption.getFilePath());
+		}
+		
+		try {
+			// 내용의 앞부분을 확인한 뒤 되돌릴 수 있도록 mark 를 지원하는 InputStream 으로 바꾼다.
+			InputStream inputStream = FileMagic.prepareToCheckMagic(readOption.getInputStream());
+			readOption.setInputStream(inputStream);
+			return FileMagic.valueOf(inputStream) == FileMagic.OOXML;
+		} catch (IOException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * ReadOption 의 InputStream 에서 Workbook 을 읽는다. InputStream 은 닫지 않는다.
+	 */
+	public static Workbook getWorkbook(ReadOption readOption) {
+		boolean isXlsx = isXlsx(readOption);
+		InputStream inputStream = readOption.getInputStream();
+		try {
+			if ( isXlsx ) {
+				return new XSSFWorkbook(inputStream);
+			}
+			if ( FileMagic.valueOf(inputStream) == FileMagic.OLE2 ) {
+				return new HSSFWorkbook(inputStream);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+		
+		throw new RuntimeException("InputStream isn't excel file format");
 	}
 	
 	public static Workbook getWorkbook(String filePath) {
@@ -1,51 +1,72 @@
 package io.github.seccoding.excel.util.read;
 
-import java.util.ArrayList;
-import java.util.List;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.xssf.usermodel.XSSFCell;
 
-import io.github.seccoding.excel.annotations.Field;
-import io.github.seccoding.excel.annotations.Require;
+import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.read.RowConsumer;
+import io.github.seccoding.excel.util.mapping.ReadColumn;
 import io.github.seccoding.excel.util.read.share.ReadShare;
 
+/**
+ * 엑셀 파일을 읽는 데 필요한 공통 기능.
+ * 읽는 중의 상태는 모두 호출마다 만들어지는 ReadShare 에 보관하므로, 하나의 인스턴스를 여러 스레드에서 함께 사용할 수 있다.
+ */
 public class PreparedExcelRead<T> {
 	
-	protected T t;
-	
-	protected String cellName;
-	
-	protected final List<T> result = new ArrayList<T>();
-	
-	protected void setup() {
-		GetWorkbook.get(ReadShare.readOption.getFilePath());
-		GetSheet.getSheetName();
+	protected ReadShare setup(ReadOption readOption, Class<?> clazz) {
+		ReadShare share = new ReadShare(readOption, clazz);
+		GetWorkbook.get(share, readOption.getFilePath());
+		GetSheet.getSheetName(share);
+		
+		readOption.extractOutputColumns(clazz);
+		readOption.extractStratRow(clazz);
 		
-		ReadShare.readOption.extractOutputColumns(ReadShare.clazz);
-		ReadShare.readOption.extractStratRow(ReadShare.clazz);
+		return share;
 	}
 	
-	protected void setup(String filePath) {
-		setup(filePath, null);
+	protected ReadShare setup(String filePath) {
+		return setup(filePath, null);
 	}
 	
-	protected void setup(String filePath, String sheetName) {
-		ReadShare.sheetName = sheetName;
-		GetWorkbook.get(filePath);
-		GetSheet.set();
+	protected ReadShare setup(String filePath, String sheetName) {
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+		
+		ReadShare share = new ReadShare(readOption, null);
+		share.setSheetName(sheetName);
+		GetWorkbook.get(share, filePath);
+		GetSheet.set(share);
+		
+		return share;
 	}
 	
-	protected void makeData(AddData addData, boolean makeList) {
-		for(int rowIndex = ReadShare.readOption.getStartRow() - 1; rowIndex <= ReadShare.numOfRows; rowIndex++) {
-			GetRow.setRow(rowIndex);
+	/**
+	 * 시트의 Row와 Cell 을 차례로 읽는다.
+	 * ReadOption 에 지정된 Row 범위와 Column 만 읽고, 나머지 Cell 은 가져오지 않는다.
+	 * @param share
+	 * @param addData Cell 마다 호출된다. false 를 반환하면 읽기를 멈춘다.
+	 * @param rowConsumer Row 하나를 다 읽을 때마다 Row 번호(1부터 시작)와 VO를 전달받는다. null 이라면 전달하지 않는다.
+	 */
+	protected void makeData(ReadShare share, AddData addData, RowConsumer<T> rowConsumer) {
+		ReadOption readOption = share.getReadOption();
+		int[] outputColumnIndexes = readOption.getOutputColumnIndexes();
+		
+		int lastRowIndex = share.getNumOfRows();
+		if ( readOption.getEndRow() > 0 ) {
+			lastRowIndex = Math.min(lastRowIndex, readOption.getEndRow() - 1);
+		}
+		
+		for(int rowIndex = readOption.getStartRow() - 1; rowIndex <= lastRowIndex; rowIndex++) {
+			GetRow.setRow(share, rowIndex);
 			
-			if( GetRow.isNotNull() ) {
-				GetRow.setPhysicalNumberOfCells();
+			if( GetRow.isNotNull(share) ) {
+				share.setFilledRow(false);
 				
-				for(int cellIndex = 0; cellIndex < ReadShare.numOfCells; cellIndex++) {
-					GetCell.setCell(cellIndex);
-					cellName = GetCell.getCellName(cellIndex);
-					if( ReadShare.readOption.isOverOutputColumnIndex(cellName) ) {
-						break;
-					}
+				for(int columnIndex : outputColumnIndexes) {
+					GetCell.setCell(share, columnIndex);
+					share.setColumnIndex(columnIndex);
 					
 					if ( addData != null ) {
 						if ( !addData.pushData(rowIndex) ) {
@@ -55,60 +76,81 @@ public class PreparedExcelRead<T> {
 					
 				}
 				
-				if ( makeList ) {
-					result.add(t);
-					createResultInstance();
+				// @Require 컬럼이 비어있어도 멈추지 않는다면, 값이 하나도 없는 Row는 빈 Row로 보고 건너뛴다.
+				boolean blankRow = !readOption.isStopAtEmptyRequire() && !share.isFilledRow();
+				if ( rowConsumer != null && !blankRow ) {
+					rowConsumer.accept(rowIndex + 1, getResultInstance(share));
 				}
+				createResultInstance(share);
 			}
 			
 		}
 	}
 	
-	protected boolean addData(int rowNum, String value) {
-		java.lang.reflect.Field[] fields = t.getClass().getDeclaredFields();
-		boolean isKeepGoing = true;
-		for (java.lang.reflect.Field field : fields) {
-			if ( isUsedRequireAnnotaion(field) ) {
-				Field annotation = field.getAnnotation(Field.class);
-				if ( annotation == null ) continue;
-				String column = annotation.value();
-				if ( column.equalsIgnoreCase(cellName) && (value == null || value.length() == 0) ) {
-					return false;
-				}
-			}
-			
-			if ( isKeepGoing && isUsedFieldAnnotaion(field) ) {
-				Field annotation = field.getAnnotation(Field.class);
-				if ( annotation == null ) continue;
-				String column = annotation.value();
-				if ( column.equalsIgnoreCase(cellName) ) {
-					Add.add(field.getName(), t, cellName + rowNum, value);
-				}
-			}
+	/**
+	 * 현재 Cell 의 값을 컬럼에 매핑된 멤버변수에 넣는다.
+	 * @return &#64;Require 컬럼의 값이 비어있다면 false
+	 */
+	protected boolean addData(ReadShare share, int rowNum, String value) {
+		ReadColumn readColumn = share.getPlan().getReadColumn(share.getColumnIndex());
+		if ( readColumn == null ) {
+			return true;
+		}
+		
+		boolean empty = value == null || value.length() == 0;
+		if ( readColumn.isRequired() && empty && share.getReadOption().isStopAtEmptyRequire() ) {
+			return false;
 		}
 		
-		return isKeepGoing;
+		if ( !empty ) {
+			share.setFilledRow(true);
+		}
+		readColumn.set(share.getT(), rowNum, value);
+		return true;
 	}
 	
-	
-	@SuppressWarnings("unchecked")
-	protected T createResultInstance() {
-		try {
-			this.t = (T) ReadShare.clazz.newInstance();
-			return t;
-		} catch (InstantiationException e) {
-			throw new RuntimeException(e.getMessage(), e);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e.getMessage(), e);
+	/**
+	 * 현재 Cell 의 값을 컬럼에 매핑된 멤버변수에 넣는다.
+	 * 숫자, Boolean 셀은 문자열로 바꾸지 않고 멤버변수의 타입으로 바로 넣는다.
+	 * @return &#64;Require 컬럼의 값이 비어있다면 false
+	 */
+	protected boolean addCell(ReadShare share, int rowNum) {
+		ReadColumn readColumn = share.getPlan().getReadColumn(share.getColumnIndex());
+		if ( readColumn == null ) {
+			return true;
 		}
+		
+		Cell cell = share.getCell();
+		CellType cellType = cell != null ? cell.getCellType() : CellType.BLANK;
+		if ( cellType == CellType.NUMERIC ) {
+			share.setFilledRow(true);
+			// xlsx 는 파일에 작성된 숫자 문자열로 넣어 정수형 멤버변수에 double 의 정밀도를 넘는 값도 그대로 넣는다.
+			String rawValue = cell instanceof XSSFCell ? ((XSSFCell) cell).getRawValue() : null;
+			if ( rawValue != null ) {
+				readColumn.setNumber(share.getT(), rowNum, rawValue);
+			}
+			else {
+				readColumn.setNumber(share.getT(), rowNum, cell.getNumericCellValue());
+			}
+			return true;
+		}
+		if ( cellType == CellType.BOOLEAN ) {
+			share.setFilledRow(true);
+			readColumn.setBoolean(share.getT(), rowNum, cell.getBooleanCellValue());
+			return true;
+		}
+		
+		return addData(share, rowNum, CellReferenceUtil.getValue(share));
 	}
 	
-	private boolean isUsedFieldAnnotaion(java.lang.reflect.Field f) {
-		return f.getAnnotation(Field.class) != null;
+	protected T createResultInstance(ReadShare share) {
+		share.setT(share.getPlan().newInstance());
+		return getResultInstance(share);
 	}
 	
-	private boolean isUsedRequireAnnotaion(java.lang.reflect.Field f) {
-		return f.getAnnotation(Require.class) != null;
+	@SuppressWarnings("unchecked")
+	protected T getResultInstance(ReadShare share) {
+		return (T) share.getT();
 	}
 	
 	
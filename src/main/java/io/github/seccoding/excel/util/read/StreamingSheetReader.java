@@ -0,0 +1,341 @@
+package io.github.seccoding.excel.util.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import io.github.seccoding.excel.annotations.ExcelSheet;
+import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.read.RowConsumer;
+import io.github.seccoding.excel.util.mapping.MappingPlan;
+import io.github.seccoding.excel.util.mapping.ReadColumn;
+
+/**
+ * xlsx 파일의 시트를 SAX(Event) 방식으로 읽는다.
+ *
+ * <pre>
+ * XSSFWorkbook 은 시트 전체를 메모리에 올린 뒤 읽기 시작하지만,
+ * StreamingSheetReader 는 시트의 XML을 위에서부터 읽으며 Row 하나가 끝날 때마다 VO를 만들어 전달한다.
+ * 메모리에는 공유 문자열 테이블(Shared Strings)과 현재 Row만 유지되므로 Row 수와 관계없이 메모리 사용량이 일정하다.
+ *
+ * 셀의 값은 ExcelRead.readToList 와 같은 형태의 문자열로 변환한다. (숫자: "1.0", 수식: 수식 문자열)
+ * &#64;Require 컬럼의 값이 비어있는 Row를 만나면 읽기를 멈춘다. (readToList 와 동일)
+ * ReadOption 의 Row 범위 밖의 Row와 읽어올 Column 이 아닌 Cell 은 값을 모으지 않고 건너뛰며,
+ * 범위의 마지막 Row를 지나면 나머지 XML은 읽지 않는다.
+ * </pre>
+ *
+ * @author Minchang Jang (mcjang1116@gmail.com)
+ */
+public class StreamingSheetReader<T> {
+
+	private final ReadOption readOption;
+	private final Class<?> clazz;
+	private final RowConsumer<T> consumer;
+
+	/**
+	 * clazz 의 컬럼 매핑 정보
+	 */
+	private final MappingPlan plan;
+
+	/**
+	 * 값이 반드시 있어야 하는 컬럼 번호 (@Require)
+	 * 읽어올 Column 이 아닌 컬럼은 값을 읽지 않으므로 확인하지 않는다. (readToList 와 동일)
+	 */
+	private final int[] requiredColumns;
+
+	private int readCount;
+
+	public StreamingSheetReader(ReadOption readOption, Class<?> clazz, Consumer<T> consumer) {
+		this(readOption, clazz, (rowNum, t) -> consumer.accept(t));
+	}
+
+	/**
+	 * @param consumer Row마다 Row 번호(1부터 시작)와 VO를 전달받는다.
+	 */
+	public StreamingSheetReader(ReadOption readOption, Class<?> clazz, RowConsumer<T> consumer) {
+		this.readOption = readOption;
+		this.clazz = clazz;
+		this.consumer = consumer;
+
+		readOption.extractOutputColumns(clazz);
+		readOption.extractStratRow(clazz);
+
+		this.plan = MappingPlan.of(clazz);
+		this.requiredColumns = IntStream.of(plan.getRequiredColumnIndexes())
+				.filter(readOption::isOutputColumn)
+				.toArray();
+	}
+
+	/**
+	 * 시트를 끝까지 읽으며 Row마다 VO를 만들어 Row 번호와 함께 consumer에게 전달한다.
+	 * @return 전달한 VO의 수
+	 */
+	public int read() {
+		OPCPackage pkg = null;
+		try {
+			// InputStream 으로 읽는다면 임시 파일을 만들지 않는다.
+			pkg = readOption.getInputStream() != null
+					? OPCPackage.open(readOption.getInputStream())
+					: OPCPackage.open(new File(readOption.getFilePath()), PackageAccess.READ);
+			XSSFReader reader = new XSSFReader(pkg);
+			ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+
+			String sheetName = getSheetName();
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+			while ( sheets.hasNext() ) {
+				InputStream sheet = sheets.next();
+				try {
+					if ( sheetName == null || sheetName.equals(sheets.getSheetName()) ) {
+						parse(sheet, sharedStrings);
+						return readCount;
+					}
+				}
+				finally {
+					sheet.close();
+				}
+			}
+
+			throw new RuntimeException("Can not find sheet [" + sheetName + "]");
+		} catch (IOException | OpenXML4JException | SAXException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		} finally {
+			if ( pkg != null ) {
+				pkg.revert();
+			}
+		}
+	}
+
+	private String getSheetName() {
+		if ( readOption.getSheetName() != null ) {
+			return readOption.getSheetName();
+		}
+
+		ExcelSheet sheet = clazz.getAnnotation(ExcelSheet.class);
+		return sheet != null ? sheet.value() : null;
+	}
+
+	private void parse(InputStream sheet, ReadOnlySharedStringsTable sharedStrings) throws IOException, SAXException {
+		XMLReader xmlReader;
+		try {
+			xmlReader = XMLHelper.newXMLReader();
+		} catch (javax.xml.parsers.ParserConfigurationException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+		xmlReader.setContentHandler(new SheetHandler(sharedStrings));
+
+		try {
+			xmlReader.parse(new InputSource(sheet));
+		} catch (StopReadingException e) {
+			// @Require 컬럼의 값이 비어있는 Row를 만났거나, 읽어올 범위의 마지막 Row를 지나 읽기를 멈췄다.
+		}
+	}
+
+	/**
+	 * 시트의 XML(&lt;row&gt;, &lt;c&gt;, &lt;v&gt;, &lt;f&gt;, &lt;is&gt;&lt;t&gt;)을 읽어 Row 단위로 VO를 만든다.
+	 */
+	private class SheetHandler extends DefaultHandler {
+
+		private final ReadOnlySharedStringsTable sharedStrings;
+
+		private boolean inRow;
+		private int rowNum;
+
+		/**
+		 * 현재 Cell 이 읽어올 Column 인지 여부. 아니라면 &lt;v&gt;, &lt;f&gt; 의 값을 모으지 않는다.
+		 */
+		private boolean inCell;
+		private ReadColumn readColumn;
+		private T t;
+
+		/**
+		 * 현재 Row 에서 값이 있는 컬럼 번호
+		 */
+		private final BitSet filledColumns = new BitSet();
+
+		private int columnIndex;
+		private String cellType;
+		private boolean inValue;
+		private boolean inFormula;
+		private boolean inInlineString;
+		private final StringBuilder value = new StringBuilder();
+		private final StringBuilder formula = new StringBuilder();
+
+		private SheetHandler(ReadOnlySharedStringsTable sharedStrings) {
+			this.sharedStrings = sharedStrings;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if ( "row".equals(localName) ) {
+				// r 속성은 생략될 수 있다. 생략되었다면 이전 Row의 다음 Row이다.
+				String r = attributes.getValue("r");
+				rowNum = r != null ? Integer.parseInt(r) : rowNum + 1;
+				if ( readOption.isOverEndRow(rowNum) ) {
+					throw new StopReadingException();
+				}
+				columnIndex = -1;
+				inRow = rowNum >= readOption.getStartRow();
+				if ( inRow ) {
+					t = newInstance();
+					filledColumns.clear();
+				}
+			}
+			else if ( inRow && "c".equals(localName) ) {
+				String r = attributes.getValue("r");
+				columnIndex = r != null ? getColumnIndex(r) : columnIndex + 1;
+				readColumn = readOption.isOutputColumn(columnIndex) ? plan.getReadColumn(columnIndex) : null;
+				inCell = readColumn != null;
+				if ( inCell ) {
+					cellType = attributes.getValue("t");
+					value.setLength(0);
+					formula.setLength(0);
+				}
+			}
+			else if ( inCell && "v".equals(localName) ) {
+				inValue = true;
+			}
+			else if ( inCell && "f".equals(localName) ) {
+				inFormula = true;
+			}
+			else if ( inCell && "t".equals(localName) && "inlineStr".equals(cellType) ) {
+				inInlineString = true;
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if ( inValue || inInlineString ) {
+				value.append(ch, start, length);
+			}
+			else if ( inFormula ) {
+				formula.append(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			if ( "v".equals(localName) ) {
+				inValue = false;
+			}
+			else if ( "f".equals(localName) ) {
+				inFormula = false;
+			}
+			else if ( "t".equals(localName) ) {
+				inInlineString = false;
+			}
+			else if ( inCell && "c".equals(localName) ) {
+				inCell = false;
+				endCell();
+			}
+			else if ( inRow && "row".equals(localName) ) {
+				endRow();
+			}
+		}
+
+		private void endCell() {
+			if ( formula.length() == 0 && value.length() > 0 ) {
+				// 숫자, Boolean 셀은 문자열을 만들지 않고 바로 넣는다.
+				if ( cellType == null || "n".equals(cellType) ) {
+					filledColumns.set(columnIndex);
+					readColumn.setNumber(t, rowNum, value);
+					return;
+				}
+				if ( "b".equals(cellType) ) {
+					filledColumns.set(columnIndex);
+					readColumn.setBoolean(t, rowNum, value.length() == 1 && value.charAt(0) == '1');
+					return;
+				}
+			}
+
+			String cellValue = getCellValue();
+			if ( cellValue.length() > 0 ) {
+				filledColumns.set(columnIndex);
+			}
+			readColumn.set(t, rowNum, cellValue);
+		}
+
+		/**
+		 * 셀 주소(예: AB12)에서 컬럼 번호를 구한다. (A=0)
+		 */
+		private int getColumnIndex(String reference) {
+			int index = 0;
+			for ( int i = 0; i < reference.length(); i++ ) {
+				char ch = reference.charAt(i);
+				if ( ch < 'A' || ch > 'Z' ) {
+					break;
+				}
+				index = index * 26 + (ch - 'A' + 1);
+			}
+			return index - 1;
+		}
+
+		private String getCellValue() {
+			if ( formula.length() > 0 ) {
+				return formula.toString();
+			}
+			if ( value.length() == 0 ) {
+				return "";
+			}
+			if ( "s".equals(cellType) ) {
+				int index = Integer.parseInt(value.toString());
+				return sharedStrings.getItemAt(index).getString();
+			}
+			if ( "b".equals(cellType) ) {
+				return "1".equals(value.toString()) + "";
+			}
+			if ( cellType == null || "n".equals(cellType) ) {
+				return Double.parseDouble(value.toString()) + "";
+			}
+			return value.toString();
+		}
+
+		private void endRow() {
+			inRow = false;
+
+			if ( !readOption.isStopAtEmptyRequire() ) {
+				// 값이 하나도 없는 Row는 빈 Row로 보고 건너뛴다.
+				if ( filledColumns.isEmpty() ) {
+					return;
+				}
+			}
+			else {
+				for (int requiredColumn : requiredColumns) {
+					if ( !filledColumns.get(requiredColumn) ) {
+						throw new StopReadingException();
+					}
+				}
+			}
+
+			consumer.accept(rowNum, t);
+			readCount++;
+		}
+
+		@SuppressWarnings("unchecked")
+		private T newInstance() {
+			return (T) plan.newInstance();
+		}
+	}
+
+	/**
+	 * SAX 파싱을 중간에 멈추기 위한 예외
+	 */
+	private static class StopReadingException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+
+}
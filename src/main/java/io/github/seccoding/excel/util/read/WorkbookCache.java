@@ -0,0 +1,170 @@
+package io.github.seccoding.excel.util.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.seccoding.excel.read.ExcelWorkbook;
+
+/**
+ * 최근에 연 엑셀 파일(ExcelWorkbook)을 보관하는 LRU 캐시.
+ *
+ * <pre>
+ * 파일 경로로 찾고, 파일의 수정 시각이나 크기가 바뀌었다면 다시 읽는다.
+ * ExcelWorkbook 은 파일 전체를 메모리에 올리므로 maxSize 개의 Workbook 만큼 메모리를 사용한다.
+ * maxSize 를 넘으면 가장 오래 사용하지 않은 ExcelWorkbook 부터 캐시에서 빼고 닫는다. maxSize 가 0 이라면 캐시하지 않는다.
+ *
+ * 같은 파일은 한 스레드만 읽고, 다른 스레드는 읽기가 끝날 때까지 기다렸다가 함께 사용한다.
+ * 파일을 읽는 동안 캐시 전체를 잠그지는 않으므로, 서로 다른 파일은 여러 스레드에서 동시에 읽을 수 있다.
+ * </pre>
+ */
+public class WorkbookCache {
+
+	private int maxSize;
+
+	/**
+	 * 파일 경로별 ExcelWorkbook. 접근한 순서대로 정렬된다.
+	 */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+	public WorkbookCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * 보관할 ExcelWorkbook 의 수를 지정한다. 줄어들었다면 오래 사용하지 않은 ExcelWorkbook 부터 닫는다.
+	 * @param maxSize 0 이라면 캐시하지 않는다.
+	 */
+	public void setMaxSize(int maxSize) {
+		List<Entry> evicted;
+		synchronized (this) {
+			this.maxSize = maxSize;
+			evicted = evict();
+		}
+		close(evicted);
+	}
+
+	/**
+	 * filePath 의 시트에서 Cell 의 값을 가져온다. 캐시에 없거나 파일이 바뀌었다면 새로 읽는다.
+	 * @param filePath
+	 * @param sheetName 시트 이름. null 이라면 첫 번째 시트
+	 * @param cellName Cell 이름 (예: B2)
+	 * @return
+	 */
+	public String getValue(String filePath, String sheetName, String cellName) {
+		while ( true ) {
+			Entry entry;
+			List<Entry> evicted;
+			synchronized (this) {
+				if ( maxSize <= 0 ) {
+					entry = null;
+					evicted = null;
+				}
+				else {
+					entry = entries.computeIfAbsent(getKey(filePath), key -> new Entry());
+					evicted = evict();
+				}
+			}
+
+			if ( entry == null ) {
+				try (ExcelWorkbook workbook = new ExcelWorkbook(filePath)) {
+					return workbook.getValue(sheetName, cellName);
+				}
+			}
+			close(evicted);
+
+			synchronized (entry) {
+				// 기다리는 동안 캐시에서 빠졌다면 다시 찾는다.
+				if ( entry.closed ) {
+					continue;
+				}
+				if ( entry.workbook == null || entry.workbook.isModified() ) {
+					ExcelWorkbook staleWorkbook = entry.workbook;
+					entry.workbook = new ExcelWorkbook(filePath);
+					if ( staleWorkbook != null ) {
+						staleWorkbook.close();
+					}
+				}
+				return entry.workbook.getValue(sheetName, cellName);
+			}
+		}
+	}
+
+	/**
+	 * filePath 의 ExcelWorkbook 을 캐시에서 빼고 닫는다.
+	 * @param filePath
+	 */
+	public void invalidate(String filePath) {
+		Entry entry;
+		synchronized (this) {
+			entry = entries.remove(getKey(filePath));
+		}
+		if ( entry != null ) {
+			entry.close();
+		}
+	}
+
+	/**
+	 * 캐시를 비우고 모든 ExcelWorkbook 을 닫는다.
+	 */
+	public void clear() {
+		List<Entry> evicted;
+		synchronized (this) {
+			evicted = new ArrayList<Entry>(entries.values());
+			entries.clear();
+		}
+		close(evicted);
+	}
+
+	private String getKey(String filePath) {
+		return new File(filePath).getAbsoluteFile().toPath().normalize().toString();
+	}
+
+	/**
+	 * maxSize 를 넘는 만큼 오래 사용하지 않은 Entry 를 뺀다. 닫는 것은 캐시의 잠금을 푼 뒤에 한다.
+	 */
+	private List<Entry> evict() {
+		List<Entry> evicted = new ArrayList<Entry>();
+		Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+		while ( entries.size() > Math.max(maxSize, 0) && iterator.hasNext() ) {
+			evicted.add(iterator.next().getValue());
+			iterator.remove();
+		}
+		return evicted;
+	}
+
+	private void close(List<Entry> evicted) {
+		for (Entry entry : evicted) {
+			entry.close();
+		}
+	}
+
+	/**
+	 * 파일 하나의 ExcelWorkbook. 이 객체로 잠가서 같은 파일을 한 번만 읽는다.
+	 */
+	private static class Entry {
+
+		private ExcelWorkbook workbook;
+
+		/**
+		 * 캐시에서 빠졌는지 여부
+		 */
+		private boolean closed;
+
+		private synchronized void close() {
+			closed = true;
+			if ( workbook != null ) {
+				workbook.close();
+				workbook = null;
+			}
+		}
+	}
+
+}
@@ -1,26 +1,168 @@
 package io.github.seccoding.excel.util.read.share;
 
+import java.io.IOException;
+
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.util.mapping.MappingPlan;
 
+/**
+ * 엑셀 파일 하나를 읽는 동안 util.read 의 클래스들이 공유하는 상태.
+ * 
+ * <pre>
+ * 읽을 때마다(readToList, getValue) 새로 만들어지므로, 여러 스레드에서 동시에 엑셀 파일을 읽어도
+ * 서로의 Workbook, Sheet, Row, Cell 을 침범하지 않는다.
+ * 하나의 ReadShare 는 하나의 스레드에서만 사용해야 한다.
+ * </pre>
+ */
 public class ReadShare {
 
-	public static Workbook wb;
+	private Workbook wb;
+	
+	private Sheet sheet;
+	private String sheetName;
+	
+	private Row row;
+	private Cell cell;
+	
+	/**
+	 * 현재 읽고 있는 Cell 의 컬럼 번호 (A=0, B=1 ...)
+	 */
+	private int columnIndex;
+	
+	private final Class<?> clazz;
+	
+	/**
+	 * clazz 의 매핑 정보. clazz 가 없다면 null
+	 */
+	private final MappingPlan plan;
+	
+	/**
+	 * 현재 Row 의 값을 채우고 있는 VO
+	 */
+	private Object t;
+	
+	/**
+	 * 현재 Row 에서 값이 있는 Cell 을 읽었는지 여부
+	 */
+	private boolean filledRow;
+	
+	private int numOfRows;
+	private int numOfCells;
+	
+	private final ReadOption readOption;
+	
+	public ReadShare(ReadOption readOption, Class<?> clazz) {
+		this.readOption = readOption;
+		this.clazz = clazz;
+		this.plan = clazz != null ? MappingPlan.of(clazz) : null;
+	}
+	
+	public Workbook getWb() {
+		return wb;
+	}
+	
+	public void setWb(Workbook wb) {
+		this.wb = wb;
+	}
+	
+	public Sheet getSheet() {
+		return sheet;
+	}
+	
+	public void setSheet(Sheet sheet) {
+		this.sheet = sheet;
+	}
+	
+	public String getSheetName() {
+		return sheetName;
+	}
+	
+	public void setSheetName(String sheetName) {
+		this.sheetName = sheetName;
+	}
+	
+	public Row getRow() {
+		return row;
+	}
+	
+	public void setRow(Row row) {
+		this.row = row;
+	}
+	
+	public Cell getCell() {
+		return cell;
+	}
+	
+	public void setCell(Cell cell) {
+		this.cell = cell;
+	}
+	
+	public int getColumnIndex() {
+		return columnIndex;
+	}
+	
+	public void setColumnIndex(int columnIndex) {
+		this.columnIndex = columnIndex;
+	}
+	
+	public Class<?> getClazz() {
+		return clazz;
+	}
+	
+	public MappingPlan getPlan() {
+		return plan;
+	}
+	
+	public Object getT() {
+		return t;
+	}
+	
+	public void setT(Object t) {
+		this.t = t;
+	}
+	
+	public int getNumOfRows() {
+		return numOfRows;
+	}
+	
+	public void setNumOfRows(int numOfRows) {
+		this.numOfRows = numOfRows;
+	}
+	
+	public int getNumOfCells() {
+		return numOfCells;
+	}
 	
-	public static Sheet sheet;
-	public static String sheetName;
+	public void setNumOfCells(int numOfCells) {
+		this.numOfCells = numOfCells;
+	}
 	
-	public static Row row;
-	public static Cell cell;
+	public ReadOption getReadOption() {
+		return readOption;
+	}
 	
-	public static Class<?> clazz;
+	/**
+	 * 읽기가 끝난 Workbook 을 닫는다.
+	 */
+	public boolean isFilledRow() {
+		return filledRow;
+	}
 	
-	public static int numOfRows;
-	public static int numOfCells;
+	public void setFilledRow(boolean filledRow) {
+		this.filledRow = filledRow;
+	}
 	
-	public static ReadOption readOption;
+	public void close() {
+		if ( wb != null ) {
+			try {
+				wb.close();
+			} catch (IOException e) {}
+			wb = null;
+		}
+	}
 }
@@ -1,22 +1,15 @@
 package io.github.seccoding.excel.util.write;
 
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.streaming.SXSSFSheet;
-
 import io.github.seccoding.excel.util.write.share.WriteShare;
 
+/**
+ * 작성하는 동안 ColumnWidthEstimator 에 기록된 너비로 컬럼의 너비를 지정한다.
+ * 글꼴로 값을 그려보지 않으므로 Row 의 수와 관계없이 빠르다.
+ */
 public class AutoSizingColumns {
 
-	public static void resize() {
-		if (WriteShare.sheet instanceof SXSSFSheet) {
-			((SXSSFSheet) WriteShare.sheet).trackAllColumnsForAutoSizing();
-		}
-
-		Row row = WriteShare.sheet.getRow(0);
-		
-		for ( int j = 0; j < row.getLastCellNum(); j++ ) {
-			WriteShare.sheet.autoSizeColumn(j);
-		}
+	public static void resize(WriteShare share) {
+		share.getWidthEstimator().apply(share.getSheet());
 	}
 	
 }
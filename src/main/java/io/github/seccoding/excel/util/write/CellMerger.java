@@ -4,9 +4,9 @@ import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class CellMerger {
 
-	public static void merge(int fromRow, int toRow, int fromCell, int toCell) {
+	public static void merge(WriteShare share, int fromRow, int toRow, int fromCell, int toCell) {
 		if ( isExtends(fromRow, toRow, fromCell, toCell) ) {
-			WriteShare.sheet.addMergedRegion(CellRangeChanger.cellRangeAddress(fromRow, toRow, fromCell, toCell));
+			share.getSheet().addMergedRegion(CellRangeChanger.cellRangeAddress(fromRow, toRow, fromCell, toCell));
 		}
 	}
 	
@@ -0,0 +1,170 @@
+package io.github.seccoding.excel.util.write;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import io.github.seccoding.excel.annotations.Format;
+
+/**
+ * Workbook 하나에서 사용할 CellStyle 을 재사용한다.
+ * 
+ * <pre>
+ * 엑셀 파일 하나에 만들 수 있는 CellStyle 의 수는 제한되어 있으므로(xlsx 64,000개, xls 4,000개)
+ * Cell 마다 CellStyle 을 만들면 Row 가 많은 파일은 작성할 수 없다.
+ * 실제로 적용되는 &#64;Format 값(정렬, 세로 정렬, 데이터 포멧, 굵게)이 같다면 같은 CellStyle 을 사용한다.
+ * 여러 스레드에서 함께 사용해도 된다.
+ * </pre>
+ */
+public class CellStylePool {
+
+	private final Workbook wb;
+	
+	/**
+	 * 여러 Sheet 를 동시에 작성할 때도 사용할 수 있도록 조회는 잠금 없이, 생성은 한 번에 하나씩 한다.
+	 */
+	private final Map<StyleKey, CellStyle> styles = new ConcurrentHashMap<StyleKey, CellStyle>();
+	
+	private DataFormat dataFormat;
+	private Font boldFont;
+	
+	public CellStylePool(Workbook wb) {
+		this.wb = wb;
+	}
+	
+	/**
+	 * &#64;Format 에 맞는 CellStyle 을 가져온다. 처음 요청된 조합이라면 만든다.
+	 * @param format
+	 * @param isDate 날짜 컬럼이라면 dataFormat 은 값의 변환에만 사용하므로 CellStyle 에 적용하지 않는다. (날짜 Cell 은 getDate)
+	 * @return format 이 없다면 null
+	 */
+	public CellStyle get(Format format, boolean isDate) {
+		if ( format == null ) {
+			return null;
+		}
+		
+		String formatString = isDate ? "" : format.dataFormat();
+		return get(new StyleKey(format.alignment(), format.verticalAlignment(), formatString, format.bold()));
+	}
+	
+	/**
+	 * 날짜 Cell 에 사용할 CellStyle 을 가져온다. 처음 요청된 조합이라면 만든다.
+	 * @param format 없다면 표시 형식만 지정한다.
+	 * @param excelDataFormat 엑셀의 날짜 표시 형식 (예: yyyy-MM-dd)
+	 */
+	public CellStyle getDate(Format format, String excelDataFormat) {
+		if ( format == null ) {
+			return get(new StyleKey("", "", excelDataFormat, false));
+		}
+		return get(new StyleKey(format.alignment(), format.verticalAlignment(), excelDataFormat, format.bold()));
+	}
+	
+	private CellStyle get(StyleKey key) {
+		CellStyle style = styles.get(key);
+		if ( style == null ) {
+			synchronized ( this ) {
+				style = styles.get(key);
+				if ( style == null ) {
+					style = makeCellStyle(key);
+					styles.put(key, style);
+				}
+			}
+		}
+		return style;
+	}
+	
+	/**
+	 * 지금까지 만든 CellStyle 의 수
+	 */
+	public int size() {
+		return styles.size();
+	}
+	
+	private CellStyle makeCellStyle(StyleKey key) {
+		
+		CellStyle style = wb.createCellStyle();
+		
+		if ( key.alignment.equals(Format.LEFT) ) {
+			style.setAlignment(HorizontalAlignment.LEFT);
+		}
+		else if ( key.alignment.equals(Format.CENTER) ) {
+			style.setAlignment(HorizontalAlignment.CENTER);
+		}
+		else if ( key.alignment.equals(Format.RIGHT) ) {
+			style.setAlignment(HorizontalAlignment.RIGHT);
+		} 
+		
+		if ( key.verticalAlignment.equals(Format.V_TOP) ) {
+			style.setVerticalAlignment(VerticalAlignment.TOP);
+		}
+		else if ( key.verticalAlignment.equals(Format.V_CENTER) ) {
+			style.setVerticalAlignment(VerticalAlignment.CENTER);
+		}
+		else if ( key.verticalAlignment.equals(Format.V_BOTTOM) ) {
+			style.setVerticalAlignment(VerticalAlignment.BOTTOM);
+		} 
+		
+		if ( key.dataFormat != null && key.dataFormat.length() > 0 ) {
+			if ( dataFormat == null ) {
+				dataFormat = wb.createDataFormat();
+			}
+			style.setDataFormat(dataFormat.getFormat(key.dataFormat));
+		}
+		
+		if ( key.bold ) {
+			if ( boldFont == null ) {
+				boldFont = wb.createFont();
+				boldFont.setBold(true);
+			}
+			style.setFont(boldFont);
+		}
+		
+		return style;
+	}
+	
+	private static class StyleKey {
+		
+		private final String alignment;
+		private final String verticalAlignment;
+		private final String dataFormat;
+		private final boolean bold;
+		
+		private StyleKey(String alignment, String verticalAlignment, String dataFormat, boolean bold) {
+			this.alignment = alignment;
+			this.verticalAlignment = verticalAlignment;
+			this.dataFormat = dataFormat;
+			this.bold = bold;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( !(obj instanceof StyleKey) ) {
+				return false;
+			}
+			StyleKey other = (StyleKey) obj;
+			return bold == other.bold
+					&& alignment.equals(other.alignment)
+					&& verticalAlignment.equals(other.verticalAlignment)
+					&& dataFormat.equals(other.dataFormat);
+		}
+		
+		@Override
+		public int hashCode() {
+			int result = alignment.hashCode();
+			result = 31 * result + verticalAlignment.hashCode();
+			result = 31 * result + dataFormat.hashCode();
+			result = 31 * result + (bold ? 1 : 0);
+			return result;
+		}
+	}
+	
+}
@@ -0,0 +1,149 @@
+package io.github.seccoding.excel.util.write;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * 작성되는 값의 글자 수로 컬럼의 너비를 추정한다.
+ * 
+ * <pre>
+ * Sheet.autoSizeColumn 은 모든 Cell 의 값을 글꼴로 그려서 너비를 계산하므로 느리고,
+ * SXSSF 는 메모리에 남아있는 Row 만 계산할 수 있어 정확하지도 않다.
+ * ColumnWidthEstimator 는 Cell 을 만들 때 컬럼마다 가장 긴 값의 너비만 기록해 두었다가 마지막에 한 번 적용한다.
+ * 
+ * 한글, 한자, 일본어, 전각 문자는 2칸, 나머지 문자는 1칸으로 계산하며, 여러 줄인 값은 가장 긴 줄을 기준으로 한다.
+ * 너비는 MAX_WIDTH 칸을 넘지 않는다.
+ * </pre>
+ */
+public class ColumnWidthEstimator {
+
+	/**
+	 * 컬럼의 최대 너비 (글자 수)
+	 */
+	public static final int MAX_WIDTH = 100;
+	
+	/**
+	 * 값의 좌우 여백 (글자 수)
+	 */
+	private static final int PADDING = 2;
+	
+	/**
+	 * 컬럼별 가장 긴 값의 너비. 기록된 적이 없는 컬럼은 0
+	 */
+	private int[] widths = new int[16];
+	
+	private int numOfColumns;
+	
+	/**
+	 * 컬럼에 작성된 값의 너비를 기록한다.
+	 * @param columnIndex
+	 * @param value
+	 */
+	public void record(int columnIndex, String value) {
+		if ( columnIndex < 0 || value == null || value.length() == 0 ) {
+			return;
+		}
+		
+		ensureColumn(columnIndex);
+		
+		if ( widths[columnIndex] >= MAX_WIDTH ) {
+			return;
+		}
+		
+		int width = measure(value);
+		if ( width > widths[columnIndex] ) {
+			widths[columnIndex] = width;
+		}
+	}
+	
+	/**
+	 * 컬럼에 작성된 숫자의 너비를 기록한다. 소수점이 없는 숫자는 문자열로 바꾸지 않고 자릿수로 계산한다.
+	 * @param columnIndex
+	 * @param value
+	 * @param isIntegral 소수점이 없는 타입(int, long 등)의 값인지 여부
+	 */
+	public void record(int columnIndex, double value, boolean isIntegral) {
+		if ( !isIntegral ) {
+			// float 에서 넓혀진 값이라면 float 의 자릿수로 계산한다. (1.1f -> "1.1")
+			record(columnIndex, (float) value == value ? String.valueOf((float) value) : String.valueOf(value));
+			return;
+		}
+		
+		long number = (long) value;
+		int width = number < 0 ? 2 : 1;
+		for ( long rest = Math.abs(number / 10); rest > 0; rest /= 10 ) {
+			width++;
+		}
+		
+		if ( columnIndex < 0 ) {
+			return;
+		}
+		ensureColumn(columnIndex);
+		if ( width > widths[columnIndex] ) {
+			widths[columnIndex] = width;
+		}
+	}
+	
+	private void ensureColumn(int columnIndex) {
+		if ( columnIndex >= widths.length ) {
+			int[] temp = new int[Math.max(widths.length * 2, columnIndex + 1)];
+			System.arraycopy(widths, 0, temp, 0, widths.length);
+			widths = temp;
+		}
+		numOfColumns = Math.max(numOfColumns, columnIndex + 1);
+	}
+	
+	/**
+	 * 기록된 너비를 Sheet 에 적용한다.
+	 * @param sheet
+	 */
+	public void apply(Sheet sheet) {
+		for ( int columnIndex = 0; columnIndex < numOfColumns; columnIndex++ ) {
+			if ( widths[columnIndex] > 0 ) {
+				int width = Math.min(widths[columnIndex] + PADDING, MAX_WIDTH);
+				// 너비의 단위는 1/256 글자
+				sheet.setColumnWidth(columnIndex, width * 256);
+			}
+		}
+	}
+	
+	/**
+	 * 값의 너비를 계산한다. MAX_WIDTH 를 넘으면 더 계산하지 않는다.
+	 */
+	static int measure(String value) {
+		int max = 0;
+		int line = 0;
+		
+		for ( int i = 0; i < value.length(); i++ ) {
+			char ch = value.charAt(i);
+			if ( ch == '\n' ) {
+				line = 0;
+				continue;
+			}
+			if ( Character.isLowSurrogate(ch) ) {
+				continue;
+			}
+			
+			line += isWide(ch) ? 2 : 1;
+			if ( line > max ) {
+				max = line;
+				if ( max >= MAX_WIDTH ) {
+					return MAX_WIDTH;
+				}
+			}
+		}
+		
+		return max;
+	}
+	
+	private static boolean isWide(char ch) {
+		return (ch >= '\u1100' && ch <= '\u115F')    // 한글 자모
+				|| (ch >= '\u2E80' && ch <= '\uA4CF') // 한중일 부수, 기호, 가나, 한자
+				|| (ch >= '\uAC00' && ch <= '\uD7A3') // 한글 음절
+				|| (ch >= '\uF900' && ch <= '\uFAFF') // 한자 호환
+				|| (ch >= '\uFE30' && ch <= '\uFE4F') // 한중일 호환 형태
+				|| (ch >= '\uFF00' && ch <= '\uFF60') // 전각 문자
+				|| (ch >= '\uFFE0' && ch <= '\uFFE6')
+				|| Character.isHighSurrogate(ch);     // 이모지, 확장 한자
+	}
+	
+}
@@ -4,5 +4,8 @@ public interface ExcelExtentions {
 
 	public static final String XLS = ".XLS";
 	public static final String XLSX = ".XLSX";
+	public static final String CSV = ".CSV";
+	public static final String TSV = ".TSV";
+	public static final String GZ = ".GZ";
 	
 }
@@ -10,4 +10,30 @@ public class FileType {
 		return fileName.toUpperCase().endsWith(ExcelExtentions.XLSX);
 	}
 	
+	/**
+	 * .csv 또는 .csv.gz 파일인지 확인한다.
+	 */
+	public static boolean isCsv(String fileName) {
+		return withoutGzip(fileName).endsWith(ExcelExtentions.CSV);
+	}
+	
+	/**
+	 * .tsv 또는 .tsv.gz 파일인지 확인한다.
+	 */
+	public static boolean isTsv(String fileName) {
+		return withoutGzip(fileName).endsWith(ExcelExtentions.TSV);
+	}
+	
+	public static boolean isGzip(String fileName) {
+		return fileName.toUpperCase().endsWith(ExcelExtentions.GZ);
+	}
+	
+	private static String withoutGzip(String fileName) {
+		String upperFileName = fileName.toUpperCase();
+		if ( upperFileName.endsWith(ExcelExtentions.GZ) ) {
+			return upperFileName.substring(0, upperFileName.length() - ExcelExtentions.GZ.length());
+		}
+		return upperFileName;
+	}
+	
 }
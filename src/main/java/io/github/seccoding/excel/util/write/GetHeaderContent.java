@@ -1,7 +1,6 @@
 package io.github.seccoding.excel.util.write;
 
 import java.lang.reflect.Field;
-import java.util.List;
 
 import io.github.seccoding.excel.util.write.share.WriteShare;
 
@@ -23,14 +22,8 @@ public class GetHeaderContent {
 		return "";
 	}
 	
-	public static Object getFirstContent() {
-		List<?> values = WriteShare.writeOption.getContents();
-		
-		if ( values != null && values.size() > 0 ) {
-			return values.get(0);
-		}
-		
-		return null;
+	public static Object getFirstContent(WriteShare share) {
+		return share.getWriteOption().getFirstContent();
 	}
 	
 }
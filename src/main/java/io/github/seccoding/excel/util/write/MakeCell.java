@@ -1,23 +1,17 @@
 package io.github.seccoding.excel.util.write;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.DataFormat;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.VerticalAlignment;
-import org.apache.poi.ss.usermodel.Workbook;
 
 import io.github.seccoding.excel.annotations.Format;
 import io.github.seccoding.excel.annotations.Title;
+import io.github.seccoding.excel.util.mapping.WriteColumn;
 import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeCell {
@@ -34,16 +28,22 @@ public class MakeCell {
 		numericTypes.add(Double.class);
 	}
 	
+	private CellStylePool stylePool;
+	private ColumnWidthEstimator widthEstimator;
 	private Object obj;
 	private Title fieldAnnotation;
 	private Format format;
 	private Row row;
 	private int cellIndex;
-	private CellStyle style;
-	private DataFormat dataFormat;
-	private Font font;
 	
-	public MakeCell(Object obj, Title fieldAnnotation, Row row, int cellIndex) {
+	/**
+	 * 날짜 Cell 을 만들었다면 그 Cell 에 적용할 엑셀의 표시 형식
+	 */
+	private String dateFormat;
+	
+	public MakeCell(WriteShare share, Object obj, Title fieldAnnotation, Row row, int cellIndex) {
+		this.stylePool = share.getStylePool();
+		this.widthEstimator = share.getWidthEstimator();
 		this.obj = obj;
 		this.fieldAnnotation = fieldAnnotation;
 		this.row = row;
@@ -57,26 +57,53 @@ public class MakeCell {
 		this.cellIndex = cellIndex;
 	}
 	
-	public void fillValue(java.lang.reflect.Field f) {
+	public void fillValue(WriteColumn column) {
+		format = column.getFormat();
+		
 		Cell cell = null;
-		try {
-			obj = f.get(obj);
-			
-			format = f.getAnnotation(Format.class);
-			
+		if ( column.isNumber() || column.isBoolean() ) {
+			cell = makePrimitiveCellAndFill(column);
+		}
+		else {
+			obj = column.getValue(obj);
 			cell = makeCellAndFill();
-			CellStyle cellStyle = makeCellStyle(WriteShare.wb);
-			
-			if ( cell != null ) {
-				cell.setCellStyle(cellStyle);
-			}
-		} catch (IllegalArgumentException e) {
-			throw new RuntimeException(e.getMessage(), e);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e.getMessage(), e);
+		}
+		
+		CellStyle cellStyle = null;
+		if ( dateFormat != null ) {
+			cellStyle = stylePool.getDate(format, dateFormat);
+			dateFormat = null;
+		}
+		else {
+			cellStyle = stylePool.get(format, fieldAnnotation.date());
+		}
+		
+		if ( cell != null && cellStyle != null ) {
+			cell.setCellStyle(cellStyle);
 		}
 	}
 	
+	/**
+	 * 기본형 멤버변수의 값은 Wrapper 객체나 문자열을 만들지 않고 Cell 에 바로 넣는다.
+	 */
+	private Cell makePrimitiveCellAndFill(WriteColumn column) {
+		Cell cell = null;
+		
+		if ( column.isBoolean() ) {
+			cell = row.createCell(cellIndex, CellType.BOOLEAN);
+			cell.setCellValue(column.getBoolean(obj));
+			widthEstimator.record(cellIndex, "FALSE");
+		}
+		else {
+			double value = column.getDouble(obj);
+			cell = row.createCell(cellIndex, CellType.NUMERIC);
+			cell.setCellValue(value);
+			widthEstimator.record(cellIndex, value, column.isIntegral());
+		}
+		
+		return cell;
+	}
+	
 	private Cell makeCellAndFill() {
 		Cell cell = null;
 		
@@ -90,99 +117,54 @@ public class MakeCell {
 			
 			String data = obj + "";
 			if ( fieldAnnotation.date() ) {
-				data = makeDateTime(data);
-				cell = row.createCell(cellIndex);
-				cell.setCellValue(data);
+				LocalDateTime dateTime = MakeDateTime.parse(data, format);
+				if ( dateTime == null ) {
+					cell = row.createCell(cellIndex, CellType.STRING);
+					cell.setCellValue("");
+				}
+				else {
+					cell = makeDateCell(dateTime, MakeDateTime.DEFAULT_DATE_FORMAT);
+				}
 			}
 			else if (data.trim().startsWith("=")) {
+				// 수식의 결과는 알 수 없으므로 너비를 기록하지 않는다.
 				data = data.trim().substring(1).trim();
 				cell = row.createCell(cellIndex, CellType.FORMULA);
 				cell.setCellFormula(data);
 			} else {
 				cell = row.createCell(cellIndex, CellType.STRING);
 				cell.setCellValue(data);
+				widthEstimator.record(cellIndex, data);
 			}
 			
 		} else if (numericTypes.contains(obj.getClass())) {
 			cell = row.createCell(cellIndex, CellType.NUMERIC);
-			cell.setCellValue(Double.parseDouble(String.valueOf(obj)));
+			cell.setCellValue(((Number) obj).doubleValue());
+			widthEstimator.record(cellIndex, ((Number) obj).doubleValue(), obj.getClass() != Double.class && obj.getClass() != Float.class);
+		} else if (MakeDateTime.isDate(obj)) {
+			cell = makeDateCell(MakeDateTime.toLocalDateTime(obj), MakeDateTime.getDefaultFormat(obj));
 		} else if (obj.getClass() == Boolean.class) {
 			cell = row.createCell(cellIndex, CellType.BOOLEAN);
-			cell.setCellValue(Boolean.parseBoolean(obj + ""));
+			cell.setCellValue((Boolean) obj);
+			widthEstimator.record(cellIndex, "FALSE");
 		}
 		
 		return cell;
 	}
 	
-	private String makeDateTime(String data) {
-		String formatString = format.dataFormat();
-		if ( formatString == null || formatString.length() == 0 ) {
-			throw new RuntimeException("dataFormat이 지정되지 않았습니다.");
-		}
-		
-		formatString = formatString.trim();
-		
-		if ( data == null || data.trim().length() == 0 || data.contains("null")) {
-			return "";
-		}
-		
-		try {
-			Date date = new SimpleDateFormat(formatString).parse(data.trim());
-			String toDataFormat = format.toDataFormat();
-			if ( toDataFormat != null && toDataFormat.length() > 0  ) {
-				formatString = toDataFormat.trim();
-			}
-			return new SimpleDateFormat(formatString).format(date);
-		} catch (ParseException e) {
-			throw new RuntimeException(e.getMessage(), e);
-		}
-	}
-	
-	private CellStyle makeCellStyle(Workbook wb) {
-		
-		//if ( style == null ) {
-			style = wb.createCellStyle();
-		//}
-		
-		String alignment = format.alignment();
-		if ( alignment.equals(Format.LEFT) ) {
-			style.setAlignment(HorizontalAlignment.LEFT);
-		}
-		else if ( alignment.equals(Format.CENTER) ) {
-			style.setAlignment(HorizontalAlignment.CENTER);
-		}
-		else if ( alignment.equals(Format.RIGHT) ) {
-			style.setAlignment(HorizontalAlignment.RIGHT);
-		} 
+	/**
+	 * 날짜를 숫자 Cell 로 작성한다. 표시 형식은 CellStyle 로 지정하므로 엑셀에서 날짜로 정렬, 필터링할 수 있다.
+	 */
+	private Cell makeDateCell(LocalDateTime dateTime, String defaultFormat) {
+		String displayFormat = MakeDateTime.getDisplayFormat(format, defaultFormat);
 		
-		String vAlignment = format.verticalAlignment();
-		if ( vAlignment.equals(Format.V_TOP) ) {
-			style.setVerticalAlignment(VerticalAlignment.TOP);
-		}
-		else if ( vAlignment.equals(Format.V_CENTER) ) {
-			style.setVerticalAlignment(VerticalAlignment.CENTER);
-		}
-		else if ( vAlignment.equals(Format.V_BOTTOM) ) {
-			style.setVerticalAlignment(VerticalAlignment.BOTTOM);
-		} 
+		Cell cell = row.createCell(cellIndex, CellType.NUMERIC);
+		cell.setCellValue(dateTime);
 		
-		String formatString = format.dataFormat();
-		if ( !fieldAnnotation.date() && formatString != null && formatString.length() > 0 ) {
-			if ( dataFormat == null ) {
-				dataFormat = wb.createDataFormat();
-			}
-			style.setDataFormat(dataFormat.getFormat(formatString));
-		}
-		
-		if ( format.bold() ) {
-			if ( font == null ) {
-				font = wb.createFont();
-			}
-			style.setFont(font);
-			font.setBold(true);
-		}
-		
-		return style;
+		dateFormat = MakeDateTime.toExcelFormat(displayFormat);
+		// 날짜는 표시 형식과 같은 길이로 표시된다.
+		widthEstimator.record(cellIndex, displayFormat);
+		return cell;
 	}
 	
 }
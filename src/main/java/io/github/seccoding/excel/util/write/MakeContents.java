@@ -1,83 +1,90 @@
 package io.github.seccoding.excel.util.write;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
-import io.github.seccoding.excel.annotations.Title;
+import io.github.seccoding.excel.util.mapping.MappingPlan;
+import io.github.seccoding.excel.util.mapping.WriteColumn;
 import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeContents {
 
-	public static void make() {
+	public static void make(WriteShare share) {
+		make(share, share.getWriteOption().iterateContents(), share.getWriteOption().getTitles());
+	}
+	
+	/**
+	 * values 를 share 의 Sheet 에 작성한다.
+	 * 여러 Sheet 를 동시에 작성할 때는 WriteOption 을 읽지 않도록 titles 를 미리 전달받는다.
+	 */
+	public static void make(WriteShare share, Iterator<?> values, List<String> titles) {
 		Row row = null;
 
-		List<?> values = WriteShare.writeOption.getContents();
-
-		if (values != null && values.size() > 0) {
+		// 내용을 하나씩 가져와 Row 를 만들고 내보내므로, 내용이 List 에 모여있지 않아도 된다.
+		if (values.hasNext()) {
 			MakeCell makeCell = null;
-			while ( true ) {
-				Object obj = getValue(values);
+			
+			// 컬럼의 위치는 클래스마다 한 번만 계산한다.
+			MappingPlan plan = null;
+			int[] cellIndexes = null;
+			
+			while ( values.hasNext() ) {
+				Object obj = values.next();
 				if ( obj == null ) {
 					break;
 				}
 				
-				row = MakeRow.create();
-				makeCellAndFillValue(obj, makeCell, row);
-				values.remove(0);
-				flush();
+				if ( plan == null || plan != MappingPlan.of(obj.getClass()) ) {
+					plan = MappingPlan.of(obj.getClass());
+					cellIndexes = getCellIndexes(plan, titles);
+				}
+				
+				row = MakeRow.create(share);
+				makeCell = makeCellAndFillValue(share, plan, cellIndexes, obj, makeCell, row);
+				flush(share);
 			}
 		}
 	}
 	
-	private static Object getValue(List<?> values) {
-		try {
-			return values.get(0);
-		}
-		catch ( IndexOutOfBoundsException e ) {
-			return null;
+	private static int[] getCellIndexes(MappingPlan plan, List<String> titles) {
+		List<WriteColumn> columns = plan.getWriteColumns();
+		int[] cellIndexes = new int[columns.size()];
+		for ( int i = 0; i < cellIndexes.length; i++ ) {
+			cellIndexes[i] = titles.indexOf(columns.get(i).getTitle().value());
 		}
+		return cellIndexes;
 	}
 	
-	private static void makeCellAndFillValue(Object obj, MakeCell makeCell, Row row) {
+	private static MakeCell makeCellAndFillValue(WriteShare share, MappingPlan plan, int[] cellIndexes, Object obj, MakeCell makeCell, Row row) {
 		
-		int cellIndex = 0;
-		
-		java.lang.reflect.Field[] fields = obj.getClass().getDeclaredFields();
-		for (java.lang.reflect.Field field : fields) {
-			field.setAccessible(true);
-
-			if (field.isAnnotationPresent(Title.class)) {
-				Title anno = field.getAnnotation(Title.class);
-
-				String title = anno.value();
-				cellIndex = getColumnIndex(title);
-				if ( makeCell == null ) {
-					makeCell = new MakeCell(obj, anno, row, cellIndex);
-				}
-				else {
-					makeCell.changeCell(obj, anno, row, cellIndex);
-				}
-				makeCell.fillValue(field);
+		List<WriteColumn> columns = plan.getWriteColumns();
+		for ( int i = 0; i < cellIndexes.length; i++ ) {
+			WriteColumn column = columns.get(i);
+			if ( makeCell == null ) {
+				makeCell = new MakeCell(share, obj, column.getTitle(), row, cellIndexes[i]);
+			}
+			else {
+				makeCell.changeCell(obj, column.getTitle(), row, cellIndexes[i]);
 			}
+			makeCell.fillValue(column);
 		}
+		
+		return makeCell;
 	}
 	
-	private static void flush() {
-		if ( WriteShare.wb instanceof SXSSFWorkbook ) {
+	private static void flush(WriteShare share) {
+		if ( share.getWb() instanceof SXSSFWorkbook ) {
 			try {
-				((SXSSFSheet)WriteShare.sheet).flushRows(10000);
+				((SXSSFSheet)share.getSheet()).flushRows(10000);
 			} catch (IOException e) {
 				throw new RuntimeException(e.getMessage(), e);
 			}
 		}
 	}
 	
-	private static int getColumnIndex(String title) {
-		return WriteShare.writeOption.getTitles().indexOf(title);
-	}
-	
 }
@@ -0,0 +1,196 @@
+package io.github.seccoding.excel.util.write;
+
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.seccoding.excel.annotations.Format;
+
+/**
+ * 날짜 컬럼의 값을 변환한다.
+ * 
+ * <pre>
+ * &#64;Title(date = true) 인 String 컬럼은 &#64;Format 의 dataFormat 으로 해석한다.
+ * LocalDate, LocalDateTime, Date 컬럼은 값을 그대로 사용한다.
+ * 
+ * 엑셀 파일에는 날짜 Cell(숫자 + 날짜 CellStyle)로 작성하므로 엑셀에서 날짜로 정렬, 필터링할 수 있다.
+ * 표시 형식은 toDataFormat, dataFormat 순서로 사용하며, 둘 다 없다면 DEFAULT_DATE_FORMAT, DEFAULT_DATE_TIME_FORMAT 을 사용한다.
+ * 
+ * DateTimeFormatter 는 여러 스레드에서 함께 사용할 수 있으므로 패턴마다 한 번만 만들어 재사용한다.
+ * 
+ * 값을 해석할 때는 SimpleDateFormat 처럼 관대하게(lenient) 해석한다.
+ * 구분자가 있는 숫자는 자릿수를 맞추지 않아도 되고 (예: "yyyy-MM-dd" 로 "2024-1-5" 를 해석하면 2024-01-05),
+ * 범위를 넘는 값은 다음 단위로 넘어간다. (예: "2024-13-01" 은 2025-01-01)
+ * </pre>
+ */
+public class MakeDateTime {
+
+	public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
+	public static final String DEFAULT_DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+	
+	private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<String, DateTimeFormatter>();
+	private static final Map<String, DateTimeFormatter> PARSERS = new ConcurrentHashMap<String, DateTimeFormatter>();
+	
+	/**
+	 * &#64;Title(date = true) 컬럼의 값을 &#64;Format 의 dataFormat 으로 해석해 toDataFormat 형태로 바꾼다. (CSV, TSV)
+	 */
+	public static String make(String data, Format format) {
+		LocalDateTime dateTime = parse(data, format);
+		if ( dateTime == null ) {
+			return "";
+		}
+		
+		return getFormatter(getDisplayFormat(format, DEFAULT_DATE_FORMAT)).format(dateTime);
+	}
+	
+	/**
+	 * LocalDate, LocalDateTime, Date 값을 표시 형식의 문자열로 바꾼다. (CSV, TSV)
+	 */
+	public static String format(Object value, Format format) {
+		LocalDateTime dateTime = toLocalDateTime(value);
+		return getFormatter(getDisplayFormat(format, getDefaultFormat(value))).format(dateTime);
+	}
+	
+	/**
+	 * &#64;Title(date = true) 컬럼의 값을 &#64;Format 의 dataFormat 으로 해석한다.
+	 * 패턴 뒤에 남는 문자는 무시한다. (예: "yyyy-MM-dd" 로 "2024-01-01 10:00:00" 을 해석하면 2024-01-01)
+	 * 숫자의 자릿수와 범위는 SimpleDateFormat 처럼 관대하게 해석한다. (예: "2024-1-5")
+	 * @return 값이 비어있다면 null
+	 */
+	public static LocalDateTime parse(String data, Format format) {
+		String formatString = format != null ? format.dataFormat() : null;
+		if ( formatString == null || formatString.trim().length() == 0 ) {
+			throw new RuntimeException("dataFormat이 지정되지 않았습니다.");
+		}
+		
+		if ( data == null || data.trim().length() == 0 || data.contains("null")) {
+			return null;
+		}
+		
+		String text = data.trim();
+		ParsePosition position = new ParsePosition(0);
+		try {
+			TemporalAccessor parsed = getParser(formatString.trim()).parse(text, position);
+			LocalDate date = parsed.query(TemporalQueries.localDate());
+			LocalTime time = parsed.query(TemporalQueries.localTime());
+			if ( date == null ) {
+				throw new RuntimeException("Can not parse [" + data + "] with [" + formatString + "]");
+			}
+			return time != null ? date.atTime(time) : date.atStartOfDay();
+		} catch (DateTimeParseException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * LocalDate, LocalDateTime, Date 를 LocalDateTime 으로 바꾼다.
+	 */
+	public static LocalDateTime toLocalDateTime(Object value) {
+		if ( value instanceof LocalDateTime ) {
+			return (LocalDateTime) value;
+		}
+		if ( value instanceof LocalDate ) {
+			return ((LocalDate) value).atStartOfDay();
+		}
+		if ( value instanceof Date ) {
+			return LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault());
+		}
+		throw new RuntimeException(value.getClass() + " in not support.");
+	}
+	
+	public static boolean isDate(Object value) {
+		return value instanceof LocalDate || value instanceof LocalDateTime || value instanceof Date;
+	}
+	
+	/**
+	 * 값의 타입에 맞는 기본 표시 형식. LocalDate 는 날짜만, 그 외에는 시간까지 표시한다.
+	 */
+	public static String getDefaultFormat(Object value) {
+		return value instanceof LocalDate ? DEFAULT_DATE_FORMAT : DEFAULT_DATE_TIME_FORMAT;
+	}
+	
+	/**
+	 * 표시 형식을 가져온다. toDataFormat, dataFormat, defaultFormat 순서로 사용한다.
+	 */
+	public static String getDisplayFormat(Format format, String defaultFormat) {
+		if ( format != null ) {
+			if ( format.toDataFormat() != null && format.toDataFormat().trim().length() > 0 ) {
+				return format.toDataFormat().trim();
+			}
+			if ( format.dataFormat() != null && format.dataFormat().trim().length() > 0 ) {
+				return format.dataFormat().trim();
+			}
+		}
+		return defaultFormat;
+	}
+	
+	/**
+	 * Java 의 날짜 패턴을 엑셀의 표시 형식으로 바꾼다.
+	 * yyyy, MM, dd, HH, mm, ss 는 엑셀에서도 같은 의미이므로 오전/오후(a)만 바꾼다.
+	 */
+	public static String toExcelFormat(String pattern) {
+		StringBuilder excelFormat = new StringBuilder(pattern.length() + 8);
+		boolean quoted = false;
+		for ( int i = 0; i < pattern.length(); i++ ) {
+			char ch = pattern.charAt(i);
+			if ( ch == '\'' ) {
+				quoted = !quoted;
+				excelFormat.append('"');
+			}
+			else if ( ch == 'a' && !quoted ) {
+				excelFormat.append("AM/PM");
+			}
+			else {
+				excelFormat.append(ch);
+			}
+		}
+		return excelFormat.toString();
+	}
+	
+	private static DateTimeFormatter getFormatter(String pattern) {
+		DateTimeFormatter formatter = FORMATTERS.get(pattern);
+		if ( formatter == null ) {
+			try {
+				formatter = DateTimeFormatter.ofPattern(pattern);
+			} catch (IllegalArgumentException e) {
+				throw new RuntimeException("Invalid date format [" + pattern + "]", e);
+			}
+			FORMATTERS.putIfAbsent(pattern, formatter);
+		}
+		return formatter;
+	}
+	
+	/**
+	 * 값을 해석할 때 사용할 DateTimeFormatter.
+	 * parseLenient 는 구분자가 있는 숫자의 자릿수를 확인하지 않고, ResolverStyle.LENIENT 는 범위를 넘는 값을 다음 단위로 넘긴다.
+	 * ("yyyyMMdd" 처럼 숫자가 붙어있다면 자릿수대로 나눈다)
+	 */
+	private static DateTimeFormatter getParser(String pattern) {
+		DateTimeFormatter parser = PARSERS.get(pattern);
+		if ( parser == null ) {
+			try {
+				parser = new DateTimeFormatterBuilder()
+						.parseLenient()
+						.appendPattern(pattern)
+						.toFormatter()
+						.withResolverStyle(ResolverStyle.LENIENT);
+			} catch (IllegalArgumentException e) {
+				throw new RuntimeException("Invalid date format [" + pattern + "]", e);
+			}
+			PARSERS.putIfAbsent(pattern, parser);
+		}
+		return parser;
+	}
+	
+}
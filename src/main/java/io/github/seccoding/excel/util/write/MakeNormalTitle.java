@@ -4,15 +4,19 @@ import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 
 import io.github.seccoding.excel.annotations.Title;
+import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeNormalTitle {
 
-	public static int make(Title title, Row row, Cell cell, int cellIndex) {
+	public static int make(WriteShare share, Title title, Row row, Cell cell, int cellIndex) {
 		if ( title.parentTitle().equals("") ) {
 			cell = row.createCell(cellIndex);
 			
 			cell.setCellValue(title.value());
-			CellMerger.merge(row.getRowNum(), title.rowMerge(), cellIndex, title.cellMerge());
+			if ( title.cellMerge() == 1 ) {
+				share.getWidthEstimator().record(cellIndex, title.value());
+			}
+			CellMerger.merge(share, row.getRowNum(), title.rowMerge(), cellIndex, title.cellMerge());
 			cellIndex += title.cellMerge();
 		}
 		
@@ -6,36 +6,46 @@ import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 
 import io.github.seccoding.excel.annotations.Title;
+import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeParentTitle {
 
-	public static int make(Title title, Row row, Cell cell, int cellIndex, Field[] fields) {
+	public static int make(WriteShare share, Title title, Row row, Cell cell, int cellIndex, Field[] fields) {
 		if ( !title.parentTitle().equals("") ) {
 			if ( isMergeCellOrRow(title) ) {
-				String parentTitle = replaceTitle(title.parentTitle(), fields);
+				String parentTitle = replaceTitle(share, title.parentTitle(), fields);
 				cell = row.createCell(cellIndex);
 				cell.setCellValue(parentTitle);
+				if ( title.parentCellMerge() == 1 ) {
+					share.getWidthEstimator().record(cellIndex, parentTitle);
+				}
 				
-				CellMerger.merge(row.getRowNum(), title.parentRowMerge(), cellIndex, title.parentCellMerge());
+				CellMerger.merge(share, row.getRowNum(), title.parentRowMerge(), cellIndex, title.parentCellMerge());
 				
-				Row tempRow = MakeRow.create(row.getRowNum() + 1, true);
+				Row tempRow = MakeRow.create(share, row.getRowNum() + 1, true);
 				
 				cell = tempRow.createCell(cellIndex);
 				cell.setCellValue(title.value());
+				if ( title.cellMerge() == 1 ) {
+					share.getWidthEstimator().record(cellIndex, title.value());
+				}
 				
-				CellMerger.merge(tempRow.getRowNum(), title.rowMerge(), cellIndex, title.cellMerge());
+				CellMerger.merge(share, tempRow.getRowNum(), title.rowMerge(), cellIndex, title.cellMerge());
 				cellIndex += title.cellMerge();
 			}
 			
 			if ( isNotMergeCellOrRow(title) ) {
 				
-				String titleValue = replaceTitle(title.value(), fields);
+				String titleValue = replaceTitle(share, title.value(), fields);
 				
-				Row tempRow = MakeRow.create(row.getRowNum() + 1);
+				Row tempRow = MakeRow.create(share, row.getRowNum() + 1);
 				cell = tempRow.createCell(cellIndex);
 				cell.setCellValue(titleValue);
+				if ( title.cellMerge() == 1 ) {
+					share.getWidthEstimator().record(cellIndex, titleValue);
+				}
 				
-				CellMerger.merge(tempRow.getRowNum(), title.rowMerge(), cellIndex, title.cellMerge());
+				CellMerger.merge(share, tempRow.getRowNum(), title.rowMerge(), cellIndex, title.cellMerge());
 				cellIndex += title.cellMerge();
 			}
 			
@@ -44,10 +54,10 @@ public class MakeParentTitle {
 		return cellIndex;
 	}
 	
-	private static String replaceTitle(String title, Field[] fields) {
+	private static String replaceTitle(WriteShare share, String title, Field[] fields) {
 		if ( title.startsWith("$") ) {
 			String fieldName = title.replace("$", "");
-			title = GetHeaderContent.getParentTitle(GetHeaderContent.getFirstContent(), fields, fieldName);
+			title = GetHeaderContent.getParentTitle(GetHeaderContent.getFirstContent(share), fields, fieldName);
 		}
 		
 		return title;
@@ -0,0 +1,109 @@
+package io.github.seccoding.excel.util.write;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import io.github.seccoding.excel.option.WriteOption;
+import io.github.seccoding.excel.util.write.share.WriteShare;
+
+/**
+ * 내용을 sheetPartitionSize 개씩 나눠 여러 Sheet 에 작성한다.
+ * 
+ * <pre>
+ * Sheet 생성과 타이틀 작성은 Workbook 을 변경하므로 차례로 처리하고,
+ * 내용 작성만 ForkJoinPool 에서 Sheet 별로 동시에 처리한다.
+ * SXSSFWorkbook 의 Sheet 는 각자의 임시 파일에 Row 를 내보내므로 서로 다른 Sheet 를 동시에 작성할 수 있다.
+ * HSSFWorkbook(xls)은 Sheet 끼리 공유하는 상태가 많아 항상 차례로 작성한다.
+ * 
+ * 동시에 작성 중인 Sheet 는 parallelism 개를 넘지 않으므로, 메모리에는 최대 parallelism 개의 파티션만 유지된다.
+ * </pre>
+ */
+public class MakePartitions {
+
+	public static void make(WriteShare share) {
+		WriteOption<?> option = share.getWriteOption();
+		int partitionSize = option.getSheetPartitionSize();
+		int parallelism = share.getWb() instanceof SXSSFWorkbook ? Math.max(1, option.getParallelism()) : 1;
+		
+		Iterator<?> values = option.iterateContents();
+		List<WriteShare> sheetShares = new ArrayList<>();
+		
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		Deque<ForkJoinTask<?>> tasks = new ArrayDeque<>();
+		
+		try {
+			do {
+				List<Object> partition = nextPartition(values, partitionSize);
+				if ( partition.isEmpty() && !sheetShares.isEmpty() ) {
+					break;
+				}
+				
+				WriteShare sheetShare = sheetShares.isEmpty() ? share : share.forSheet(createSheet(share, sheetShares.size()));
+				sheetShares.add(sheetShare);
+				
+				MakeTitle.make(sheetShare);
+				List<String> titles = option.getTitles();
+				checkMaxRows(sheetShare, partition.size());
+				
+				if ( pool == null ) {
+					MakeContents.make(sheetShare, partition.iterator(), titles);
+					continue;
+				}
+				
+				if ( tasks.size() >= parallelism ) {
+					tasks.pollFirst().join();
+				}
+				tasks.addLast(pool.submit(() -> MakeContents.make(sheetShare, partition.iterator(), titles)));
+			} while ( values.hasNext() );
+			
+			while ( !tasks.isEmpty() ) {
+				tasks.pollFirst().join();
+			}
+		}
+		finally {
+			if ( pool != null ) {
+				pool.shutdownNow();
+			}
+		}
+		
+		for ( WriteShare sheetShare : sheetShares ) {
+			AutoSizingColumns.resize(sheetShare);
+		}
+	}
+	
+	private static List<Object> nextPartition(Iterator<?> values, int partitionSize) {
+		List<Object> partition = new ArrayList<>(Math.min(partitionSize, 10000));
+		while ( partition.size() < partitionSize && values.hasNext() ) {
+			Object obj = values.next();
+			if ( obj == null ) {
+				break;
+			}
+			partition.add(obj);
+		}
+		return partition;
+	}
+	
+	/**
+	 * 두 번째 Sheet 부터는 "Sheet 명_2", "Sheet 명_3" ... 으로 만든다.
+	 */
+	private static Sheet createSheet(WriteShare share, int sheetIndex) {
+		String sheetName = share.getWriteOption().getSheetName() + "_" + (sheetIndex + 1);
+		return share.getWb().createSheet(sheetName);
+	}
+	
+	private static void checkMaxRows(WriteShare share, int partitionSize) {
+		int maxRows = share.getWb().getSpreadsheetVersion().getMaxRows();
+		if ( share.getRowIndex() + partitionSize > maxRows ) {
+			throw new RuntimeException("sheetPartitionSize is too large. A sheet can have at most " + maxRows + " rows.");
+		}
+	}
+	
+}
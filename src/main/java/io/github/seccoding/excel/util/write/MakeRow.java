@@ -6,19 +6,19 @@ import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeRow {
 
-	public static Row create() {
-		return create(WriteShare.rowIndex++, false);
+	public static Row create(WriteShare share) {
+		return create(share, share.nextRowIndex(), false);
 	}
 	
-	public static Row create(int rowNum) {
-		return create(rowNum, false);
+	public static Row create(WriteShare share, int rowNum) {
+		return create(share, rowNum, false);
 	}
 	
-	public static Row create(int rowNum, boolean isCreateParentRow) {
-		Row tempRow = WriteShare.sheet.getRow(rowNum);
+	public static Row create(WriteShare share, int rowNum, boolean isCreateParentRow) {
+		Row tempRow = share.getSheet().getRow(rowNum);
 		if(tempRow == null) {
-			if ( isCreateParentRow ) WriteShare.rowIndex++;
-			tempRow = WriteShare.sheet.createRow(rowNum);
+			if ( isCreateParentRow ) share.increaseRowIndex();
+			tempRow = share.getSheet().createRow(rowNum);
 		}
 		
 		return tempRow;
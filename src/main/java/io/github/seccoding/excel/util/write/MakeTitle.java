@@ -13,23 +13,26 @@ import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeTitle {
 
-	public static void make() {
+	public static void make(WriteShare share) {
 		
-		if(!isUseTitle())  {
-			setTitle(WriteShare.writeOption.getTitles());
+		if(!isUseTitle(share))  {
+			setTitle(share, share.getWriteOption().getTitles());
 		}
 		else {
-			setTitle();
+			setTitle(share);
 		}
 		
 	}
 	
-	private static boolean isUseTitle() {
-		Object object = GetHeaderContent.getFirstContent();
+	private static boolean isUseTitle(WriteShare share) {
+		Object object = GetHeaderContent.getFirstContent(share);
+		if ( object == null ) {
+			return false;
+		}
 		return object.getClass().getDeclaredAnnotation(ExcelSheet.class).useTitle();
 	}
 
-	private static void setTitle(List<String> values) {
+	private static void setTitle(WriteShare share, List<String> values) {
 
 		Row row = null;
 		Cell cell = null;
@@ -37,8 +40,9 @@ public class MakeTitle {
 		int cellIndex = 0;
 
 		if (values != null && values.size() > 0) {
-			row = MakeRow.create();
+			row = MakeRow.create(share);
 			for (String value : values) {
+				share.getWidthEstimator().record(cellIndex, value);
 				cell = row.createCell(cellIndex++);
 				cell.setCellValue(value);
 			}
@@ -46,16 +50,16 @@ public class MakeTitle {
 
 	}
 	
-	private static void setTitle() {
+	private static void setTitle(WriteShare share) {
 		
-		Row row = MakeRow.create();
+		Row row = MakeRow.create(share);
 		Cell cell = null;
 		
 		int cellIndex = 0;
 		
 		List<String> titleList = new ArrayList<>();
 		
-		Field[] fields = GetHeaderContent.getFirstContent().getClass().getDeclaredFields();
+		Field[] fields = GetHeaderContent.getFirstContent(share).getClass().getDeclaredFields();
 		
 		for (Field field : fields) {
 			Title title = field.getAnnotation(Title.class);
@@ -63,13 +67,13 @@ public class MakeTitle {
 				continue;
 			}
 			
-			cellIndex = MakeParentTitle.make(title, row, cell, cellIndex, fields);
-			cellIndex = MakeNormalTitle.make(title, row, cell, cellIndex);
+			cellIndex = MakeParentTitle.make(share, title, row, cell, cellIndex, fields);
+			cellIndex = MakeNormalTitle.make(share, title, row, cell, cellIndex);
 			
 			titleList.add(title.value());
 		}
 		
-		WriteShare.writeOption.setTitles(titleList);
+		share.getWriteOption().setTitles(titleList);
 		
 	}
 	
@@ -8,9 +8,9 @@ import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class MakeWorkBook {
 
-	public static void makeWorkBookAndSheet() {
-		WriteShare.wb = MakeWorkBook.getWorkbook(WriteShare.writeOption.getFileName());
-		WriteShare.sheet = WriteShare.wb.createSheet(WriteShare.writeOption.getSheetName());
+	public static void makeWorkBookAndSheet(WriteShare share) {
+		share.setWb(MakeWorkBook.getWorkbook(share.getWriteOption().getFileName()));
+		share.setSheet(share.getWb().createSheet(share.getWriteOption().getSheetName()));
 	}
 
 	public static Workbook getWorkbook(String fileName) {
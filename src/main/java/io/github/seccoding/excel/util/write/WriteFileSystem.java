@@ -9,20 +9,20 @@ import io.github.seccoding.excel.util.write.share.WriteShare;
 
 public class WriteFileSystem {
 
-	public static String write() {
+	public static String write(WriteShare share) {
 		FileOutputStream fos = null;
 		String downloadPath = null;
 		
 		try {
 			
-			downloadPath = WriteShare.writeOption.getFilePath();
+			downloadPath = share.getWriteOption().getFilePath();
 			if ( downloadPath == null ) {
 				throw new RuntimeException("Excel 파일이 만들어질 경로가 누락되었습니다. WriteOption 의 filePath를 셋팅하세요. 예 > D:\\uploadFiles\\");
 			}
 			
 			ZipSecureFile.setMinInflateRatio(0);
-			fos = new FileOutputStream(downloadPath + WriteShare.writeOption.getFileName());
-			WriteShare.wb.write(fos);
+			fos = new FileOutputStream(downloadPath + share.getWriteOption().getFileName());
+			share.getWb().write(fos);
 		} catch (IOException e) {
 			throw new RuntimeException(e.getMessage(), e);
 		}
@@ -4,26 +4,104 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import io.github.seccoding.excel.option.WriteOption;
+import io.github.seccoding.excel.util.write.CellStylePool;
+import io.github.seccoding.excel.util.write.ColumnWidthEstimator;
 
+/**
+ * 엑셀 파일 하나를 작성하는 동안 util.write 의 클래스들이 공유하는 상태.
+ * 
+ * <pre>
+ * 작성할 때마다 새로 만들어지므로, 여러 스레드에서 동시에 엑셀 파일을 작성해도 서로의 Workbook, Sheet, Row 위치를 침범하지 않는다.
+ * 하나의 WriteShare 는 하나의 스레드에서만 사용해야 한다.
+ * </pre>
+ */
 public class WriteShare {
 
-	public static WriteOption<?> writeOption;
+	private final WriteOption<?> writeOption;
 	
-	
-	public static Workbook wb;
+	private Workbook wb;
 	
 	/**
 	 * 엑셀 문서에 만들어질 Sheet
 	 */
-	public static Sheet sheet;
+	private Sheet sheet;
 
 	/**
 	 * 엑셀 문서에 Row를 작성할 때 몇 번째에 Row를 만들 것인지 지정하기 위한 변수 엑셀 문서에 Row를 작성할 때마다 증가함.
 	 */
-	public static int rowIndex;
+	private int rowIndex;
+	
+	/**
+	 * wb 에서 재사용할 CellStyle
+	 */
+	private CellStylePool stylePool;
+	
+	/**
+	 * 작성되는 값으로 컬럼의 너비를 추정한다.
+	 */
+	private final ColumnWidthEstimator widthEstimator = new ColumnWidthEstimator();
+	
+	public WriteShare(WriteOption<?> writeOption) {
+		this.writeOption = writeOption;
+	}
+	
+	/**
+	 * 같은 Workbook 의 다른 Sheet 를 작성할 WriteShare 를 만든다.
+	 * Workbook 과 CellStylePool 은 함께 사용하고, Row 위치와 컬럼 너비는 Sheet 마다 따로 가진다.
+	 */
+	public WriteShare forSheet(Sheet sheet) {
+		WriteShare share = new WriteShare(writeOption);
+		share.wb = this.wb;
+		share.stylePool = this.stylePool;
+		share.sheet = sheet;
+		return share;
+	}
+	
+	public WriteOption<?> getWriteOption() {
+		return writeOption;
+	}
+	
+	public Workbook getWb() {
+		return wb;
+	}
+	
+	public void setWb(Workbook wb) {
+		this.wb = wb;
+		this.stylePool = new CellStylePool(wb);
+	}
+	
+	public CellStylePool getStylePool() {
+		return stylePool;
+	}
+	
+	public ColumnWidthEstimator getWidthEstimator() {
+		return widthEstimator;
+	}
+	
+	public Sheet getSheet() {
+		return sheet;
+	}
+	
+	public void setSheet(Sheet sheet) {
+		this.sheet = sheet;
+	}
+	
+	/**
+	 * 다음에 만들 Row의 위치를 가져오고 1 증가시킨다.
+	 */
+	public int nextRowIndex() {
+		return rowIndex++;
+	}
+	
+	public int getRowIndex() {
+		return rowIndex;
+	}
 	
+	public void increaseRowIndex() {
+		rowIndex++;
+	}
 	
-	public static void resetRowIndex() {
+	public void resetRowIndex() {
 		rowIndex = 0;
 	}
 	
@@ -0,0 +1,268 @@
+package io.github.seccoding.excel.write;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import io.github.seccoding.excel.annotations.ExcelSheet;
+import io.github.seccoding.excel.option.WriteOption;
+import io.github.seccoding.excel.util.mapping.MappingPlan;
+import io.github.seccoding.excel.util.mapping.WriteColumn;
+import io.github.seccoding.excel.util.write.FileType;
+import io.github.seccoding.excel.util.write.MakeDateTime;
+
+/**
+ * WriteOption 의 내용을 CSV(쉼표) 또는 TSV(탭) 파일로 작성한다.
+ * 
+ * <pre>
+ * xlsx 처럼 압축, XML, 공유 문자열 테이블을 만들지 않고 Row 를 한 줄씩 바로 쓰므로
+ * 수백만 건을 내보낼 때도 빠르고 메모리 사용량이 일정하다.
+ * 
+ * 타이틀과 컬럼 순서는 ExcelWrite 와 같이 &#64;Title 로 정하고, 날짜 컬럼은 &#64;Format 으로 변환한다.
+ * 숫자의 dataFormat, 정렬, 굵게 등 보여주기 위한 &#64;Format 은 사용하지 않는다.
+ * 값에 구분자, 큰따옴표, 줄바꿈이 있다면 큰따옴표로 감싼다. (RFC 4180)
+ * WriteOption 의 escapeFormula 가 true 라면 수식으로 실행될 수 있는 문자열 값의 앞에 ' 를 붙인다.
+ * 인코딩은 UTF-8 이며, 파일 이름이 .gz 로 끝나면 gzip 으로 압축한다.
+ * 
+ * 사용 예제
+ * 	writeOption.setFileName("board.csv.gz");
+ * 	File file = ExcelWrite.write(writeOption);
+ * 	// 또는 Response 로 바로 쓰기
+ * 	new DelimitedWrite(writeOption, ',').write(response.getOutputStream(), true);
+ * </pre>
+ */
+public class DelimitedWrite {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	
+	private static final String LINE_SEPARATOR = "\r\n";
+	
+	private final WriteOption<?> writeOption;
+	
+	private final char delimiter;
+	
+	/**
+	 * 파일 이름으로 구분자를 정한다. .tsv 라면 탭, 그 외에는 쉼표.
+	 */
+	public DelimitedWrite(WriteOption<?> writeOption) {
+		this(writeOption, FileType.isTsv(writeOption.getFileName()) ? '\t' : ',');
+	}
+	
+	public DelimitedWrite(WriteOption<?> writeOption, char delimiter) {
+		this.writeOption = writeOption;
+		this.delimiter = delimiter;
+	}
+	
+	/**
+	 * WriteOption 의 filePath, fileName 에 파일을 작성한다.
+	 * @return 작성된 파일
+	 */
+	public File write() {
+		String filePath = writeOption.getFilePath();
+		if ( filePath == null ) {
+			throw new RuntimeException("파일이 만들어질 경로가 누락되었습니다. WriteOption 의 filePath를 셋팅하세요. 예 > D:\\uploadFiles\\");
+		}
+		
+		Path path = Paths.get(filePath + writeOption.getFileName());
+		try (OutputStream outputStream = Files.newOutputStream(path)) {
+			write(outputStream, FileType.isGzip(writeOption.getFileName()));
+		} catch (IOException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+		
+		return path.toFile();
+	}
+	
+	/**
+	 * outputStream 에 작성한다. outputStream 은 닫지 않는다.
+	 * @param outputStream
+	 * @param gzip true 라면 gzip 으로 압축해서 쓴다.
+	 */
+	public void write(OutputStream outputStream, boolean gzip) throws IOException {
+		OutputStream target = new NonClosingOutputStream(outputStream);
+		if ( gzip ) {
+			target = new GZIPOutputStream(target, BUFFER_SIZE);
+		}
+		
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+			List<String> titles = getTitles();
+			if ( !titles.isEmpty() ) {
+				writeLine(writer, titles.toArray(new String[titles.size()]));
+			}
+			
+			writeContents(writer, titles);
+		}
+	}
+	
+	/**
+	 * &#64;ExcelSheet(useTitle = true) 라면 &#64;Title 의 값, 아니라면 WriteOption 의 titles
+	 */
+	private List<String> getTitles() {
+		Object first = writeOption.getFirstContent();
+		if ( first == null ) {
+			return writeOption.getTitles();
+		}
+		
+		ExcelSheet sheet = first.getClass().getAnnotation(ExcelSheet.class);
+		if ( sheet == null || !sheet.useTitle() ) {
+			return writeOption.getTitles();
+		}
+		
+		List<String> titles = new ArrayList<String>();
+		for (WriteColumn column : MappingPlan.of(first.getClass()).getWriteColumns()) {
+			titles.add(column.getTitle().value());
+		}
+		return titles;
+	}
+	
+	private void writeContents(Writer writer, List<String> titles) throws IOException {
+		Iterator<?> values = writeOption.iterateContents();
+		
+		MappingPlan plan = null;
+		int[] columnIndexes = null;
+		String[] line = null;
+		
+		while ( values.hasNext() ) {
+			Object obj = values.next();
+			if ( obj == null ) {
+				break;
+			}
+			
+			if ( plan == null || plan != MappingPlan.of(obj.getClass()) ) {
+				plan = MappingPlan.of(obj.getClass());
+				columnIndexes = getColumnIndexes(plan, titles);
+				line = new String[getNumOfColumns(columnIndexes, titles)];
+			}
+			
+			List<WriteColumn> columns = plan.getWriteColumns();
+			for ( int i = 0; i < columnIndexes.length; i++ ) {
+				if ( columnIndexes[i] >= 0 ) {
+					line[columnIndexes[i]] = toString(columns.get(i), columns.get(i).getValue(obj));
+				}
+			}
+			writeLine(writer, line);
+		}
+	}
+	
+	/**
+	 * 타이틀이 없다면 &#64;Title 멤버변수의 선언 순서대로 쓴다.
+	 */
+	private int[] getColumnIndexes(MappingPlan plan, List<String> titles) {
+		List<WriteColumn> columns = plan.getWriteColumns();
+		int[] columnIndexes = new int[columns.size()];
+		for ( int i = 0; i < columnIndexes.length; i++ ) {
+			columnIndexes[i] = titles.isEmpty() ? i : titles.indexOf(columns.get(i).getTitle().value());
+		}
+		return columnIndexes;
+	}
+	
+	private int getNumOfColumns(int[] columnIndexes, List<String> titles) {
+		int numOfColumns = titles.size();
+		for (int columnIndex : columnIndexes) {
+			numOfColumns = Math.max(numOfColumns, columnIndex + 1);
+		}
+		return numOfColumns;
+	}
+	
+	private String toString(WriteColumn column, Object value) {
+		if ( value == null ) {
+			return "";
+		}
+		if ( value instanceof String && column.getTitle().date() ) {
+			return MakeDateTime.make((String) value, column.getFormat());
+		}
+		if ( MakeDateTime.isDate(value) ) {
+			return MakeDateTime.format(value, column.getFormat());
+		}
+		if ( value instanceof String && writeOption.isEscapeFormula() ) {
+			return escapeFormula((String) value);
+		}
+		return String.valueOf(value);
+	}
+	
+	/**
+	 * 엑셀이 수식으로 해석하는 문자(=, +, -, @, 탭, CR)로 시작한다면 앞에 ' 를 붙여 문자열로 보이게 한다.
+	 */
+	private String escapeFormula(String value) {
+		if ( value.length() == 0 ) {
+			return value;
+		}
+		char first = value.charAt(0);
+		if ( first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r' ) {
+			return "'" + value;
+		}
+		return value;
+	}
+	
+	private void writeLine(Writer writer, String[] values) throws IOException {
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( i > 0 ) {
+				writer.write(delimiter);
+			}
+			if ( values[i] != null ) {
+				writeValue(writer, values[i]);
+			}
+		}
+		writer.write(LINE_SEPARATOR);
+	}
+	
+	private void writeValue(Writer writer, String value) throws IOException {
+		if ( !isNeedQuote(value) ) {
+			writer.write(value);
+			return;
+		}
+		
+		writer.write('"');
+		for ( int i = 0; i < value.length(); i++ ) {
+			char ch = value.charAt(i);
+			if ( ch == '"' ) {
+				writer.write('"');
+			}
+			writer.write(ch);
+		}
+		writer.write('"');
+	}
+	
+	private boolean isNeedQuote(String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			char ch = value.charAt(i);
+			if ( ch == delimiter || ch == '"' || ch == '\n' || ch == '\r' ) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Writer 와 GZIPOutputStream 을 닫아 압축을 마치더라도, 전달받은 outputStream 은 닫지 않는다.
+	 */
+	private static class NonClosingOutputStream extends FilterOutputStream {
+		
+		private NonClosingOutputStream(OutputStream out) {
+			super(out);
+		}
+		
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+		
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+	
+}
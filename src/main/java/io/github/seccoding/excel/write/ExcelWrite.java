@@ -1,12 +1,16 @@
 package io.github.seccoding.excel.write;
 
 import java.io.File;
+import java.io.IOException;
 
-import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import io.github.seccoding.excel.option.WriteOption;
 import io.github.seccoding.excel.util.write.AutoSizingColumns;
+import io.github.seccoding.excel.util.write.FileType;
 import io.github.seccoding.excel.util.write.MakeContents;
+import io.github.seccoding.excel.util.write.MakePartitions;
 import io.github.seccoding.excel.util.write.MakeTitle;
 import io.github.seccoding.excel.util.write.MakeWorkBook;
 import io.github.seccoding.excel.util.write.WriteFileSystem;
@@ -15,16 +19,32 @@ import io.github.seccoding.excel.util.write.share.WriteShare;
 /**
  * 엑셀 파일을 서버의 디스크에 작성한다.
  * 
+ * <pre>
+ * ExcelWrite 인스턴스 하나가 엑셀 파일 하나를 작성한다.
+ * 작성에 필요한 상태(Workbook, Sheet, Row 위치)는 인스턴스마다 따로 가지므로
+ * 여러 스레드에서 각자의 ExcelWrite 로 동시에 엑셀 파일을 작성할 수 있다.
+ * 
+ * 사용 예제
+ * 	File file = new ExcelWrite(writeOption).write();
+ * 	// 또는
+ * 	File file = ExcelWrite.write(writeOption);
+ * 
+ * WriteOption 의 sheetPartitionSize 를 지정하면 내용을 여러 Sheet 로 나눠 작성하며,
+ * parallelism 을 함께 지정하면 나눠진 Sheet 들을 동시에 작성한다. (MakePartitions)
+ * 
+ * 파일 이름이 .csv, .tsv (.csv.gz, .tsv.gz) 로 끝나면 DelimitedWrite 로 작성한다.
+ * </pre>
+ * 
  * @see io.github.seccoding.excel.ExcelWriteTest
  * @author Minchang Jang (mcjang1116@gmail.com)
  */
 public class ExcelWrite {
 
-	/**
-	 * 엑셀 파일이 쓰여질 경로. WriteOption 에서 가져온다.
-	 */
-	private static String downloadPath = null;
+	private final WriteShare share;
 
+	public ExcelWrite(WriteOption<?> writeOption) {
+		this.share = new WriteShare(writeOption);
+	}
 
 	/**
 	 * 엑셀 파일을 작성한다.
@@ -33,22 +53,54 @@ public class ExcelWrite {
 	 * @return Excel 파일의 File 객체
 	 */
 	public static File write(WriteOption<?> writeOption) {
-		WriteShare.writeOption = writeOption;
-		MakeWorkBook.makeWorkBookAndSheet();
-		
-		MakeTitle.make();
-		MakeContents.make();
-		
-		AutoSizingColumns.resize();
+		return new ExcelWrite(writeOption).write();
+	}
+
+	/**
+	 * 엑셀 파일을 작성한다. 하나의 인스턴스로 여러 번 호출하면 같은 파일을 다시 작성한다.
+	 * (WriteOption 의 내용을 Iterator, Stream, Supplier 로 정의했다면 한 번만 작성할 수 있다)
+	 * 
+	 * @return Excel 파일의 File 객체
+	 */
+	public File write() {
+		String fileName = share.getWriteOption().getFileName();
+		if ( FileType.isCsv(fileName) || FileType.isTsv(fileName) ) {
+			return new DelimitedWrite(share.getWriteOption()).write();
+		}
 		
-		downloadPath = WriteFileSystem.write();
-		WriteShare.resetRowIndex();
+		share.resetRowIndex();
+		MakeWorkBook.makeWorkBookAndSheet(share);
 		
-		return getFile(WriteShare.writeOption.getFileName());
+		try {
+			if ( share.getWriteOption().getSheetPartitionSize() > 0 ) {
+				MakePartitions.make(share);
+			}
+			else {
+				MakeTitle.make(share);
+				MakeContents.make(share);
+				
+				AutoSizingColumns.resize(share);
+			}
+			
+			String downloadPath = WriteFileSystem.write(share);
+			return new File(downloadPath + share.getWriteOption().getFileName());
+		}
+		finally {
+			close();
+		}
 	}
 	
-	private static File getFile(String fileName) {
-		return new File(downloadPath + fileName);
+	/**
+	 * Workbook 을 닫는다. SXSSFWorkbook 이라면 임시 파일도 함께 삭제된다.
+	 */
+	private void close() {
+		Workbook wb = share.getWb();
+		if ( wb instanceof SXSSFWorkbook ) {
+			((SXSSFWorkbook) wb).dispose();
+		}
+		try {
+			wb.close();
+		} catch (IOException e) {}
 	}
 
 }
@@ -78,10 +78,70 @@ $().ready(function () {
       contentType: false,
       success: function (response) {
         var data = response.data;
-        if (data.result && data.next) {
-          location.href = data.next;
+        if (data.result && data.progress) {
+          // 등록은 서버에서 진행되므로 진행상황을 주기적으로 확인한다.
+          checkExcelUploadProgress(data.progress);
+        } else if (data.errorMessage) {
+          alert(data.errorMessage);
         }
       },
     });
   });
+
+  /** 대량등록 작업의 진행상황을 1초마다 확인한다. */
+  function checkExcelUploadProgress(progressUrl) {
+    $.get(progressUrl, function (response) {
+      var data = response.data;
+
+      $("#excel-upload-progress").text(
+        "게시글 일괄 등록 중... (읽은 게시글: " +
+          data.parsedCount +
+          "건, 등록: " +
+          data.insertedCount +
+          "건, 실패: " +
+          data.failedCount +
+          "건, 검증 실패: " +
+          data.rejectedCount +
+          "건)"
+      );
+
+      if (!data.finished) {
+        setTimeout(function () {
+          checkExcelUploadProgress(progressUrl);
+        }, 1000);
+        return;
+      }
+
+      if (data.status === "FAILED") {
+        alert(
+          "게시글을 등록하지 못했습니다. (등록된 게시글: " +
+            data.insertedCount +
+            "건)\n" +
+            data.errorMessage
+        );
+      } else if (
+        (data.failedRows && data.failedRows.length > 0) ||
+        (data.rejectedRows && data.rejectedRows.length > 0)
+      ) {
+        var message = data.insertedCount + "건을 등록했습니다.";
+        if (data.failedRows.length > 0) {
+          message +=
+            "\n등록하지 못한 게시글: " + data.failedRows.join(", ") + "행";
+        }
+        // 검증에 실패한 게시글은 처음 10건의 이유만 보여준다.
+        for (var i = 0; i < data.rejectedRows.length && i < 10; i++) {
+          message +=
+            "\n" +
+            data.rejectedRows[i].rowNumber +
+            "행: " +
+            data.rejectedRows[i].reason;
+        }
+        if (data.rejectedRows.length > 10) {
+          message += "\n... 외 " + (data.rejectedRows.length - 10) + "건";
+        }
+        alert(message);
+      }
+      location.href = data.next;
+    });
+  }
 });
@@ -23,7 +23,10 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
     <jsp:include page="../layout/layout.jsp" />
     <div class="grid">
       <div class="right-align">
-        총 ${boardList.boardCnt}건의 게시글이 검색되었습니다.
+        <%-- Seek 페이지네이션에서 건수를 세지 않았다면 보여주지 않는다. --%>
+        <c:if test="${boardList.boardCnt ge 0}">
+          총 ${boardList.boardCnt}건의 게시글이 검색되었습니다.
+        </c:if>
       </div>
 
       <table class="table">
@@ -134,43 +137,88 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
           <button type="button" id="search-btn">검색</button>
           <button type="button" id="cancel-search-btn">초기화</button>
 
-          <ul class="page-nav">
-            <c:if test="${searchBoardVO.hasPrevGroup}">
-              <li><a href="javascript:search(0);">처음</a></li>
-              <li>
-                <a
-                  href="javascript:search(${searchBoardVO.prevGroupStartPageNo});"
-                  >이전</a
+          <c:choose>
+            <%-- afterId / beforeId 로 조회한 경우 (Seek 페이지네이션) --%>
+            <c:when test="${searchBoardVO.seekMode}">
+              <ul class="page-nav">
+                <li><a href="javascript:search(0);">처음</a></li>
+                <c:if test="${boardList.hasPrev}">
+                  <li>
+                    <c:url var="prevUrl" value="/board/search">
+                      <c:param name="beforeId" value="${boardList.prevBeforeId}" />
+                      <c:param name="listSize" value="${searchBoardVO.listSize}" />
+                      <c:param name="searchType" value="${searchBoardVO.searchType}" />
+                      <c:param name="searchKeyword" value="${searchBoardVO.searchKeyword}" />
+                    </c:url>
+                    <a href="${prevUrl}">이전</a>
+                  </li>
+                </c:if>
+                <c:if test="${boardList.hasNext}">
+                  <li>
+                    <c:url var="nextUrl" value="/board/search">
+                      <c:param name="afterId" value="${boardList.nextAfterId}" />
+                      <c:param name="listSize" value="${searchBoardVO.listSize}" />
+                      <c:param name="searchType" value="${searchBoardVO.searchType}" />
+                      <c:param name="searchKeyword" value="${searchBoardVO.searchKeyword}" />
+                    </c:url>
+                    <a href="${nextUrl}">다음</a>
+                  </li>
+                </c:if>
+              </ul>
+            </c:when>
+            <c:otherwise>
+              <ul class="page-nav">
+                <c:if test="${searchBoardVO.hasPrevGroup}">
+                  <li><a href="javascript:search(0);">처음</a></li>
+                  <li>
+                    <a
+                      href="javascript:search(${searchBoardVO.prevGroupStartPageNo});"
+                      >이전</a
+                    >
+                  </li>
+                </c:if>
+
+                <!-- Page 번호를 반복하며 노출한다. -->
+                <c:forEach
+                  begin="${searchBoardVO.groupStartPageNo}"
+                  end="${searchBoardVO.groupEndPageNo}"
+                  step="1"
+                  var="p"
                 >
-              </li>
-            </c:if>
+                  <li class="${searchBoardVO.pageNo eq p ? 'active' : ''}">
+                    <a href="javascript:search(${p});">${p+1}</a>
+                  </li>
+                </c:forEach>
 
-            <!-- Page 번호를 반복하며 노출한다. -->
-            <c:forEach
-              begin="${searchBoardVO.groupStartPageNo}"
-              end="${searchBoardVO.groupEndPageNo}"
-              step="1"
-              var="p"
-            >
-              <li class="${searchBoardVO.pageNo eq p ? 'active' : ''}">
-                <a href="javascript:search(${p});">${p+1}</a>
-              </li>
-            </c:forEach>
+                <c:if test="${searchBoardVO.hasNextGroup}">
+                  <li>
+                    <a
+                      href="javascript:search(${searchBoardVO.nextGroupStartPageNo});"
+                      >다음</a
+                    >
+                  </li>
+                  <li>
+                    <a href="javascript:search(${searchBoardVO.pageCount - 1});"
+                      >마지막</a
+                    >
+                  </li>
+                </c:if>
 
-            <c:if test="${searchBoardVO.hasNextGroup}">
-              <li>
-                <a
-                  href="javascript:search(${searchBoardVO.nextGroupStartPageNo});"
-                  >다음</a
-                >
-              </li>
-              <li>
-                <a href="javascript:search(${searchBoardVO.pageCount - 1});"
-                  >마지막</a
-                >
-              </li>
-            </c:if>
-          </ul>
+                <%-- 현재 페이지의 마지막 게시글부터 Seek 페이지네이션으로 이어서 조회한다. --%>
+                <c:if test="${boardList.hasNext}">
+                  <li>
+                    <c:url var="seekUrl" value="/board/search">
+                      <c:param name="afterId" value="${boardList.nextAfterId}" />
+                      <c:param name="listSize" value="${searchBoardVO.listSize}" />
+                      <c:param name="searchType" value="${searchBoardVO.searchType}" />
+                      <c:param name="searchKeyword" value="${searchBoardVO.searchKeyword}" />
+                    </c:url>
+                    <a href="${seekUrl}">계속 보기</a>
+                  </li>
+                </c:if>
+              </ul>
+            </c:otherwise>
+          </c:choose>
         </form>
       </div>
       <!-- Paginator 끝 -->
@@ -183,10 +231,12 @@ pageEncoding="UTF-8"%> <%@ taglib prefix="c" uri="jakarta.tags.core" %>
             <!-- ROLE_ADMIN 권한을 가진 사용자 일 때만 아래 메뉴를 노출.-->
             <sec:authorize access="hasRole('ADMIN')">
               <a href="/board/excel/download2">엑셀 다운로드</a>
+              <a href="/board/excel/download?format=csv&gzip=true">CSV 다운로드</a>
               <a id="deleteMassiveBoard" href="javascript:void(0);">일괄 삭제</a>
               <a id="uploadExcelfile" href="javascript:void(0);"
                 >게시글 일괄 등록</a>
               <input type="file" id="excelfile" style="display: none" />
+              <span id="excel-upload-progress"></span>
             </sec:authorize>
         </div>
       </sec:authorize>
@@ -0,0 +1,66 @@
+package com.hello.forum.bbs.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTest {
+
+	@Test
+	@DisplayName("검색어의 모든 토큰을 포함한 게시글 검색 테스트")
+	public void searchTest() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, "스프링 부트 게시판");
+		index.put(2, "스프링 시큐리티");
+		index.put(3, "Hello Spring");
+
+		Assertions.assertEquals(Set.of(1, 2), index.search("스프링"));
+		Assertions.assertEquals(Set.of(1), index.search("게시판"));
+		Assertions.assertEquals(Set.of(3), index.search("spring"));
+		Assertions.assertTrue(index.search("자바").isEmpty());
+		// 토큰을 만들 수 없는 검색어는 색인을 사용하지 않는다.
+		Assertions.assertNull(index.search("스"));
+	}
+
+	@Test
+	@DisplayName("게시글 수정, 삭제 시 기존 토큰 제거 테스트")
+	public void putAndRemoveTest() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, "스프링 부트");
+		index.put(1, "자바 게시판");
+
+		Assertions.assertTrue(index.search("스프링").isEmpty());
+		Assertions.assertEquals(Set.of(1), index.search("게시판"));
+
+		index.remove(1);
+		Assertions.assertTrue(index.search("게시판").isEmpty());
+		Assertions.assertEquals(0, index.size());
+	}
+
+	@Test
+	@DisplayName("색인 저장 후 읽기 테스트")
+	public void writeAndReadTest() throws IOException {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, "스프링 부트 게시판");
+		index.put(2, "스프링 시큐리티");
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		index.writeTo(new DataOutputStream(bytes));
+
+		InvertedIndex loadedIndex = new InvertedIndex();
+		loadedIndex.readFrom(new DataInputStream(
+				new ByteArrayInputStream(bytes.toByteArray())));
+
+		Assertions.assertEquals(2, loadedIndex.size());
+		Assertions.assertEquals(Set.of(1, 2), loadedIndex.search("스프링"));
+		Assertions.assertEquals(Set.of(2), loadedIndex.search("시큐리티"));
+	}
+
+}
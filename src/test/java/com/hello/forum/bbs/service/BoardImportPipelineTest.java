@@ -0,0 +1,245 @@
+package com.hello.forum.bbs.service;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.hello.forum.bbs.dao.BoardDao;
+import com.hello.forum.bbs.vo.BoardImportRejectedRowVO;
+import com.hello.forum.bbs.vo.BoardImportResultVO;
+import com.hello.forum.bbs.vo.BoardVO;
+
+import io.github.seccoding.excel.option.ReadOption;
+
+public class BoardImportPipelineTest {
+
+	@TempDir
+	Path tempDir;
+
+	private BoardDao boardDao;
+
+	private BoardImportPipeline boardImportPipeline;
+
+	/**
+	 * 등록된 게시글의 제목 (등록된 순서대로)
+	 */
+	private List<String> insertedSubjects;
+
+	@BeforeEach
+	public void setUp() {
+		this.insertedSubjects = Collections.synchronizedList(new ArrayList<>());
+		this.boardDao = Mockito.mock(BoardDao.class);
+		given(this.boardDao.insertManyBoard(anyList(), anyInt()))
+				.willAnswer(invocation -> {
+					List<BoardVO> boardList = invocation.getArgument(0);
+					int[] insertedCounts = new int[boardList.size()];
+					for (int i = 0; i < boardList.size(); i++) {
+						// 이메일이 fail 로 시작하는 게시글은 DB에서 등록에 실패한다.
+						if (!boardList.get(i).getEmail().startsWith("fail")) {
+							this.insertedSubjects.add(boardList.get(i).getSubject());
+							insertedCounts[i] = 1;
+						}
+					}
+					return insertedCounts;
+				});
+
+		this.boardImportPipeline = new BoardImportPipeline();
+		ReflectionTestUtils.setField(this.boardImportPipeline,
+				"importBatchSize", 3);
+		ReflectionTestUtils.setField(this.boardImportPipeline,
+				"validateThreads", 4);
+		ReflectionTestUtils.setField(this.boardImportPipeline, "queueCapacity",
+				2);
+		ReflectionTestUtils.setField(this.boardImportPipeline, "boardDao",
+				this.boardDao);
+		ReflectionTestUtils.setField(this.boardImportPipeline,
+				"transactionManager", new NoOpTransactionManager());
+		this.boardImportPipeline.initialize();
+	}
+
+	@Test
+	@DisplayName("검증 Thread가 여러 개여도 엑셀파일의 순서대로 등록하는지 테스트")
+	public void orderTest() throws IOException {
+		String[][] rows = new String[300][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = new String[] { "user" + i + "@hello.com", "제목" + i,
+					"내용" + i };
+		}
+
+		BoardImportResultVO importResultVO = this.run(this.makeFile(rows));
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < rows.length; i++) {
+			expected.add("제목" + i);
+		}
+		Assertions.assertEquals(expected, this.insertedSubjects);
+		Assertions.assertEquals(300, importResultVO.getRowCount());
+		Assertions.assertEquals(300, importResultVO.getInsertedCount());
+	}
+
+	@Test
+	@DisplayName("검증, 등록에 실패한 게시글을 엑셀의 Row 번호로 알려주는지 테스트")
+	public void rejectAndFailTest() throws IOException {
+		String[][] rows = new String[12][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = new String[] { "user" + i + "@hello.com", "제목" + i,
+					"내용" + i };
+		}
+		// 값이 하나도 없는 Row는 건너뛴다. (엑셀의 4행)
+		rows[2] = null;
+		// 엑셀의 6행: 이메일 형식 오류, 8행: 제목 없음, 10행: 작성자 이메일 없음
+		rows[4][0] = "wrong-email";
+		rows[6][1] = null;
+		rows[8][0] = null;
+		// 엑셀의 12행: DB 등록 실패
+		rows[10][0] = "fail@hello.com";
+
+		BoardImportResultVO importResultVO = this.run(this.makeFile(rows));
+
+		List<Integer> rejectedRowNumbers = new ArrayList<>();
+		for (BoardImportRejectedRowVO rejectedRow : importResultVO
+				.getRejectedRows()) {
+			rejectedRowNumbers.add(rejectedRow.getRowNumber());
+		}
+		Assertions.assertEquals(Arrays.asList(6, 8, 10), rejectedRowNumbers);
+		Assertions.assertEquals("작성자 이메일은 필수 입력 값입니다.",
+				importResultVO.getRejectedRows().get(2).getReason());
+		Assertions.assertEquals(Arrays.asList(12), importResultVO.getFailedRows());
+		Assertions.assertEquals(11, importResultVO.getRowCount());
+		Assertions.assertEquals(7, importResultVO.getInsertedCount());
+	}
+
+	@Test
+	@DisplayName("등록 단계가 실패하면 읽기를 멈추고 실패를 알려주는지 테스트")
+	public void writerFailureTest() throws IOException {
+		String[][] rows = new String[3000][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = new String[] { "user" + i + "@hello.com", "제목" + i,
+					"내용" + i };
+		}
+		String filePath = this.makeFile(rows);
+
+		given(this.boardDao.insertManyBoard(anyList(), anyInt()))
+				.willThrow(new IllegalStateException("DB 오류"));
+
+		IllegalStateException e = Assertions.assertTimeoutPreemptively(
+				Duration.ofSeconds(30),
+				() -> Assertions.assertThrows(IllegalStateException.class,
+						() -> this.run(filePath)));
+		Assertions.assertEquals("DB 오류", e.getMessage());
+		this.assertStagesStopped();
+	}
+
+	@Test
+	@DisplayName("읽기 단계가 실패하면 다른 단계를 멈추고 실패를 알려주는지 테스트")
+	public void readerFailureTest() {
+		String filePath = this.tempDir.resolve("none.xlsx").toString();
+
+		Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30),
+				() -> Assertions.assertThrows(RuntimeException.class,
+						() -> this.run(filePath)));
+		Assertions.assertTrue(this.insertedSubjects.isEmpty());
+		this.assertStagesStopped();
+	}
+
+	private BoardImportResultVO run(String filePath) {
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+		return this.boardImportPipeline.run(readOption, null);
+	}
+
+	/**
+	 * 검증, 등록 단계의 Thread가 모두 끝났는지 확인한다.
+	 */
+	private void assertStagesStopped() {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (System.currentTimeMillis() < deadline) {
+			Set<Thread> threads = Thread.getAllStackTraces().keySet();
+			if (threads.stream().noneMatch(thread -> thread.getName()
+					.startsWith("board-import-stage-"))) {
+				return;
+			}
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		Assertions.fail("board-import-stage Thread가 끝나지 않았습니다.");
+	}
+
+	/**
+	 * 게시글 엑셀파일을 만든다. rows[i] 는 엑셀의 (i + 2)행이며, null 이라면 빈 Row를 만든다.
+	 */
+	private String makeFile(String[][] rows) throws IOException {
+		String filePath = this.tempDir.resolve("board.xlsx").toString();
+		try (XSSFWorkbook workbook = new XSSFWorkbook();
+				FileOutputStream fos = new FileOutputStream(filePath)) {
+			Sheet sheet = workbook.createSheet("Sheet1");
+			Row title = sheet.createRow(0);
+			title.createCell(0).setCellValue("작성자 이메일");
+			title.createCell(1).setCellValue("제목");
+			title.createCell(2).setCellValue("내용");
+			for (int i = 0; i < rows.length; i++) {
+				Row row = sheet.createRow(i + 1);
+				if (rows[i] == null) {
+					continue;
+				}
+				for (int j = 0; j < rows[i].length; j++) {
+					if (rows[i][j] != null) {
+						row.createCell(j).setCellValue(rows[i][j]);
+					}
+				}
+			}
+			workbook.write(fos);
+		}
+		return filePath;
+	}
+
+	/**
+	 * 트랜잭션 없이 실행하는 TransactionManager
+	 */
+	private static class NoOpTransactionManager
+			implements PlatformTransactionManager {
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+
+}
@@ -0,0 +1,426 @@
+package io.github.seccoding.excel;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seccoding.excel.annotations.ExcelSheet;
+import io.github.seccoding.excel.annotations.Field;
+import io.github.seccoding.excel.annotations.Require;
+import io.github.seccoding.excel.option.ReadOption;
+import io.github.seccoding.excel.read.ExcelRead;
+import io.github.seccoding.excel.read.ExcelWorkbook;
+import io.github.seccoding.excel.util.read.WorkbookCache;
+
+public class ExcelReadTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("여러 스레드에서 하나의 ExcelRead로 동시에 엑셀 파일 읽기 테스트")
+	public void concurrentReadTest() throws Exception {
+		int fileCount = 8;
+		int rowCount = 300;
+
+		List<String> filePaths = new ArrayList<>();
+		for (int i = 0; i < fileCount; i++) {
+			filePaths.add(makeFile("sample" + i + ".xlsx", i, rowCount));
+		}
+
+		ExcelRead<SampleVO> excelRead = new ExcelRead<>();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<SampleVO>>> results = new ArrayList<>();
+			List<Future<String>> values = new ArrayList<>();
+			for (String filePath : filePaths) {
+				results.add(executor.submit(() -> excelRead.readToList(filePath, SampleVO.class)));
+				values.add(executor.submit(() -> excelRead.getValue(filePath, "B2")));
+			}
+
+			for (int i = 0; i < fileCount; i++) {
+				List<SampleVO> result = results.get(i).get();
+				Assertions.assertEquals(rowCount, result.size());
+				for (int j = 0; j < rowCount; j++) {
+					Assertions.assertEquals("file" + i + "-row" + j, result.get(j).name);
+				}
+				Assertions.assertEquals("file" + i + "-row0", values.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("@Require 컬럼이 비어있으면 읽기를 멈추고, readStream과 readToList의 결과가 같은지 테스트")
+	public void requireAndStreamTest() throws IOException {
+		String filePath = makeFile("require.xlsx", 0, 5);
+		try (XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+			workbook.getSheet("Sample").getRow(4).getCell(0).setBlank();
+			try (FileOutputStream fos = new FileOutputStream(tempDir.resolve("require2.xlsx").toString())) {
+				workbook.write(fos);
+			}
+		}
+		filePath = tempDir.resolve("require2.xlsx").toString();
+
+		List<RequireVO> list = new ExcelRead<RequireVO>().readToList(filePath, RequireVO.class);
+		List<RequireVO> stream = new ArrayList<>();
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+		int count = new ExcelRead<RequireVO>().readStream(readOption, RequireVO.class, stream::add);
+
+		Assertions.assertEquals(3, list.size());
+		Assertions.assertEquals(3, count);
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertEquals(i + ".0", list.get(i).no);
+			Assertions.assertEquals(Map.of("B" + (i + 2), "file0-row" + i), list.get(i).names);
+			Assertions.assertEquals(list.get(i).no, stream.get(i).no);
+			Assertions.assertEquals(list.get(i).names, stream.get(i).names);
+		}
+	}
+
+	@Test
+	@DisplayName("@Require 컬럼이 비어있어도 멈추지 않도록 지정하면 빈 Row만 건너뛰고 Row 번호와 함께 전달하는지 테스트")
+	public void notStopAtEmptyRequireTest() throws IOException {
+		String filePath = makeFile("notStop.xlsx", 0, 5);
+		try (XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+			Sheet sheet = workbook.getSheet("Sample");
+			sheet.getRow(2).getCell(0).setBlank();
+			sheet.removeRow(sheet.getRow(4));
+			sheet.createRow(4);
+			try (FileOutputStream fos = new FileOutputStream(tempDir.resolve("notStop2.xlsx").toString())) {
+				workbook.write(fos);
+			}
+		}
+		filePath = tempDir.resolve("notStop2.xlsx").toString();
+
+		List<Integer> rowNumbers = new ArrayList<>();
+		List<RequireVO> stream = new ArrayList<>();
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+		readOption.setStopAtEmptyRequire(false);
+		int count = new ExcelRead<RequireVO>().readStreamWithRowNumber(readOption, RequireVO.class, (rowNum, vo) -> {
+			rowNumbers.add(rowNum);
+			stream.add(vo);
+		});
+
+		ReadOption listOption = new ReadOption();
+		listOption.setFilePath(filePath);
+		listOption.setStopAtEmptyRequire(false);
+		List<RequireVO> list = new ExcelRead<RequireVO>().readToList(listOption, RequireVO.class);
+
+		Assertions.assertEquals(4, count);
+		Assertions.assertEquals(List.of(2, 3, 4, 6), rowNumbers);
+		Assertions.assertTrue(stream.get(1).no == null || stream.get(1).no.isEmpty());
+		Assertions.assertEquals(Map.of("B3", "file0-row1"), stream.get(1).names);
+		Assertions.assertEquals(4, list.size());
+		for (int i = 0; i < 4; i++) {
+			Assertions.assertEquals(stream.get(i).no, list.get(i).no);
+			Assertions.assertEquals(stream.get(i).names, list.get(i).names);
+		}
+	}
+
+	@Test
+	@DisplayName("파일 경로 대신 InputStream에서 읽기 테스트")
+	public void inputStreamReadTest() throws IOException {
+		String filePath = makeFile("stream.xlsx", 0, 20);
+
+		List<SampleVO> stream = new ArrayList<>();
+		try (InputStream inputStream = Files.newInputStream(Path.of(filePath))) {
+			ReadOption readOption = new ReadOption();
+			readOption.setInputStream(inputStream);
+			Assertions.assertEquals(20, new ExcelRead<SampleVO>().readStream(readOption, SampleVO.class, stream::add));
+		}
+
+		List<SampleVO> list;
+		try (InputStream inputStream = Files.newInputStream(Path.of(filePath))) {
+			ReadOption readOption = new ReadOption();
+			readOption.setInputStream(inputStream);
+			list = new ExcelRead<SampleVO>().readToList(readOption, SampleVO.class);
+		}
+
+		Assertions.assertEquals(20, list.size());
+		for (int i = 0; i < 20; i++) {
+			Assertions.assertEquals("file0-row" + i, stream.get(i).name);
+			Assertions.assertEquals("file0-row" + i, list.get(i).name);
+		}
+	}
+
+	@Test
+	@DisplayName("숫자, Boolean, 날짜 셀을 멤버변수의 타입으로 바로 읽는지 테스트")
+	public void typedReadTest() throws IOException {
+		String filePath = tempDir.resolve("typed.xlsx").toString();
+		try (XSSFWorkbook workbook = new XSSFWorkbook();
+				FileOutputStream fos = new FileOutputStream(filePath)) {
+			Sheet sheet = workbook.createSheet("Sample");
+			sheet.createRow(0).createCell(0).setCellValue("번호");
+			for (int i = 0; i < 3; i++) {
+				Row row = sheet.createRow(i + 1);
+				row.createCell(0).setCellValue(i + 1);
+				row.createCell(1).setCellValue(1234567890123L + i);
+				row.createCell(2).setCellValue(i + 0.5);
+				row.createCell(3).setCellValue(i % 2 == 0);
+				row.createCell(4).setCellValue(LocalDate.of(2024, 1, i + 1));
+				row.createCell(5).setCellValue(String.valueOf(i * 10));
+			}
+			workbook.write(fos);
+		}
+
+		List<TypedVO> list = new ExcelRead<TypedVO>().readToList(filePath, TypedVO.class);
+		List<TypedVO> stream = new ArrayList<>();
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+		new ExcelRead<TypedVO>().readStream(readOption, TypedVO.class, stream::add);
+
+		Assertions.assertEquals(3, list.size());
+		Assertions.assertEquals(3, stream.size());
+		for (List<TypedVO> result : List.of(list, stream)) {
+			for (int i = 0; i < 3; i++) {
+				TypedVO vo = result.get(i);
+				Assertions.assertEquals(i + 1, vo.no);
+				Assertions.assertEquals(1234567890123L + i, vo.id);
+				Assertions.assertEquals(i + 0.5, vo.rate);
+				Assertions.assertEquals(i % 2 == 0, vo.used);
+				Assertions.assertEquals(LocalDate.of(2024, 1, i + 1), vo.date);
+				Assertions.assertEquals(Integer.valueOf(i * 10), vo.count);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("지정한 Row 범위와 Column 만 읽는지 테스트")
+	public void rowRangeAndColumnProjectionTest() throws IOException {
+		String filePath = makeFile("projection.xlsx", 0, 20);
+
+		ReadOption listOption = new ReadOption();
+		listOption.setFilePath(filePath);
+		listOption.setRowRange(3, 7);
+		listOption.setOutputColumns("B");
+		List<SampleVO> list = new ExcelRead<SampleVO>().readToList(listOption, SampleVO.class);
+
+		ReadOption streamOption = new ReadOption();
+		streamOption.setFilePath(filePath);
+		streamOption.setRowRange(3, 7);
+		streamOption.setOutputColumns("B");
+		List<SampleVO> stream = new ArrayList<>();
+		int count = new ExcelRead<SampleVO>().readStream(streamOption, SampleVO.class, stream::add);
+
+		Assertions.assertEquals(5, list.size());
+		Assertions.assertEquals(5, count);
+		for (List<SampleVO> result : List.of(list, stream)) {
+			for (int i = 0; i < 5; i++) {
+				Assertions.assertNull(result.get(i).no);
+				Assertions.assertEquals("file0-row" + (i + 1), result.get(i).name);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("@Require 컬럼을 읽어올 Column에서 빼면 readStream과 readToList 모두 값을 확인하지 않는지 테스트")
+	public void projectedRequireTest() throws IOException {
+		String filePath = makeFile("projectedRequire.xlsx", 0, 5);
+
+		ReadOption listOption = new ReadOption();
+		listOption.setFilePath(filePath);
+		listOption.setOutputColumns("B");
+		List<RequireVO> list = new ExcelRead<RequireVO>().readToList(listOption, RequireVO.class);
+
+		ReadOption streamOption = new ReadOption();
+		streamOption.setFilePath(filePath);
+		streamOption.setOutputColumns("B");
+		List<RequireVO> stream = new ArrayList<>();
+		int count = new ExcelRead<RequireVO>().readStream(streamOption, RequireVO.class, stream::add);
+
+		Assertions.assertEquals(5, list.size());
+		Assertions.assertEquals(5, count);
+		for (List<RequireVO> result : List.of(list, stream)) {
+			for (int i = 0; i < 5; i++) {
+				Assertions.assertNull(result.get(i).no);
+				Assertions.assertEquals(Map.of("B" + (i + 2), "file0-row" + i), result.get(i).names);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("열어둔 Workbook에서 Cell 값을 여러 번 가져오고, 파일이 바뀌면 다시 읽는지 테스트")
+	public void workbookCacheTest() throws IOException {
+		String filePath = makeFile("cache.xlsx", 0, 10);
+
+		ExcelRead<SampleVO> excelRead = new ExcelRead<>();
+		try (ExcelWorkbook workbook = excelRead.openWorkbook(filePath)) {
+			for (int i = 0; i < 10; i++) {
+				Assertions.assertEquals("file0-row" + i, workbook.getValue("Sample", "B" + (i + 2)));
+			}
+			Assertions.assertEquals("", workbook.getValue("Z100"));
+		}
+
+		Assertions.assertEquals("file0-row3", excelRead.getValue(filePath, "B5"));
+		Assertions.assertEquals("file0-row4", excelRead.getValue(filePath, "Sample", "B6"));
+
+		FileTime lastModified = Files.getLastModifiedTime(Path.of(filePath));
+		makeFile("cache.xlsx", 1, 10);
+		Files.setLastModifiedTime(Path.of(filePath), FileTime.fromMillis(lastModified.toMillis() + 1000));
+
+		Assertions.assertEquals("file1-row3", excelRead.getValue(filePath, "B5"));
+	}
+
+	@Test
+	@DisplayName("WorkbookCache가 maxSize를 넘으면 오래된 파일을 빼고, 비우거나 캐시하지 않아도 값을 가져오는지 테스트")
+	public void workbookCacheEvictionTest() throws Exception {
+		String firstFilePath = makeFile("cache1.xlsx", 1, 5);
+		String secondFilePath = makeFile("cache2.xlsx", 2, 5);
+
+		WorkbookCache workbookCache = new WorkbookCache(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> values = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				String filePath = i % 2 == 0 ? firstFilePath : secondFilePath;
+				values.add(executor.submit(() -> workbookCache.getValue(filePath, null, "B3")));
+			}
+			for (int i = 0; i < 16; i++) {
+				Assertions.assertEquals("file" + (i % 2 + 1) + "-row1", values.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		workbookCache.invalidate(firstFilePath);
+		Assertions.assertEquals("file1-row2", workbookCache.getValue(firstFilePath, "Sample", "B4"));
+		workbookCache.clear();
+		Assertions.assertEquals("file2-row2", workbookCache.getValue(secondFilePath, "Sample", "B4"));
+		workbookCache.setMaxSize(0);
+		Assertions.assertEquals("file1-row3", workbookCache.getValue(firstFilePath, "Sample", "B5"));
+	}
+
+	@Test
+	@DisplayName("double 의 정밀도(2^53)를 넘는 정수를 정수형 멤버변수에 그대로 읽는지 테스트")
+	public void largeIntegralReadTest() throws IOException {
+		String filePath = tempDir.resolve("large.xlsx").toString();
+		try (XSSFWorkbook workbook = new XSSFWorkbook();
+				FileOutputStream fos = new FileOutputStream(filePath)) {
+			Sheet sheet = workbook.createSheet("Sample");
+			sheet.createRow(0).createCell(0).setCellValue("번호");
+			Row row = sheet.createRow(1);
+			// double 로는 9007199254740992 가 되는 값을 숫자 셀의 <v> 에 그대로 작성한다.
+			XSSFCell numberCell = (XSSFCell) row.createCell(0);
+			numberCell.setCellValue(0);
+			numberCell.getCTCell().setV("9007199254740993");
+			row.createCell(1).setCellValue("9007199254740995");
+			row.createCell(2).setCellValue(" 123456789012345678 ");
+			workbook.write(fos);
+		}
+
+		List<LargeVO> list = new ExcelRead<LargeVO>().readToList(filePath, LargeVO.class);
+		List<LargeVO> stream = new ArrayList<>();
+		ReadOption readOption = new ReadOption();
+		readOption.setFilePath(filePath);
+		new ExcelRead<LargeVO>().readStream(readOption, LargeVO.class, stream::add);
+
+		for (List<LargeVO> result : List.of(list, stream)) {
+			Assertions.assertEquals(1, result.size());
+			Assertions.assertEquals(9007199254740993L, result.get(0).id);
+			Assertions.assertEquals(Long.valueOf(9007199254740993L), result.get(0).boxedId);
+			Assertions.assertEquals(Long.valueOf(9007199254740995L), result.get(0).textId);
+			Assertions.assertEquals(123456789012345678L, result.get(0).paddedId);
+		}
+	}
+
+	private String makeFile(String fileName, int fileNo, int rowCount) throws IOException {
+		String filePath = tempDir.resolve(fileName).toString();
+		try (XSSFWorkbook workbook = new XSSFWorkbook();
+				FileOutputStream fos = new FileOutputStream(filePath)) {
+			Sheet sheet = workbook.createSheet("Sample");
+			Row title = sheet.createRow(0);
+			title.createCell(0).setCellValue("번호");
+			title.createCell(1).setCellValue("이름");
+			for (int i = 0; i < rowCount; i++) {
+				Row row = sheet.createRow(i + 1);
+				row.createCell(0).setCellValue(i);
+				row.createCell(1).setCellValue("file" + fileNo + "-row" + i);
+			}
+			workbook.write(fos);
+		}
+		return filePath;
+	}
+
+	@ExcelSheet(value = "Sample", startRow = 2)
+	public static class SampleVO {
+
+		@Field("A")
+		private String no;
+
+		@Field("B")
+		private String name;
+	}
+
+	@ExcelSheet(value = "Sample", startRow = 2)
+	public static class RequireVO {
+
+		@Require
+		@Field("A")
+		private String no;
+
+		@Field("B")
+		private Map<String, String> names;
+	}
+
+	@ExcelSheet(value = "Sample", startRow = 2)
+	public static class TypedVO {
+
+		@Require
+		@Field("A")
+		private int no;
+
+		@Field("B")
+		private long id;
+
+		@Field("C")
+		private double rate;
+
+		@Field("D")
+		private boolean used;
+
+		@Field("E")
+		private LocalDate date;
+
+		@Field("F")
+		private Integer count;
+	}
+
+	@ExcelSheet(value = "Sample", startRow = 2)
+	public static class LargeVO {
+
+		@Field("A")
+		private long id;
+
+		@Field("A")
+		private Long boxedId;
+
+		@Field("B")
+		private Long textId;
+
+		@Field("C")
+		private long paddedId;
+	}
+
+}
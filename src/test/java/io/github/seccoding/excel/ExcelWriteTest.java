@@ -0,0 +1,289 @@
+package io.github.seccoding.excel;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seccoding.excel.annotations.ExcelSheet;
+import io.github.seccoding.excel.annotations.Format;
+import io.github.seccoding.excel.annotations.Title;
+import io.github.seccoding.excel.option.WriteOption;
+import io.github.seccoding.excel.util.write.MakeDateTime;
+import io.github.seccoding.excel.write.ExcelWrite;
+
+public class ExcelWriteTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 엑셀 파일 작성 테스트")
+	public void concurrentWriteTest() throws Exception {
+		int fileCount = 8;
+		int rowCount = 500;
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<File>> files = new ArrayList<>();
+			for (int i = 0; i < fileCount; i++) {
+				WriteOption<SampleVO> writeOption = makeWriteOption("sample" + i + ".xlsx", i, rowCount);
+				files.add(executor.submit(() -> ExcelWrite.write(writeOption)));
+			}
+
+			for (int i = 0; i < fileCount; i++) {
+				assertFile(files.get(i).get(), i, rowCount);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("하나의 ExcelWrite로 다시 작성해도 Row가 처음부터 작성되는지 테스트")
+	public void rewriteTest() throws IOException {
+		ExcelWrite excelWrite = new ExcelWrite(makeWriteOption("rewrite.xlsx", 0, 10));
+		excelWrite.write();
+		assertFile(excelWrite.write(), 0, 10);
+	}
+
+	@Test
+	@DisplayName("Iterator, Stream, Supplier로 전달한 내용을 순서대로 작성하는지 테스트")
+	public void iteratorContentsTest() throws IOException {
+		List<SampleVO> contents = makeWriteOption("list.xlsx", 3, 50).getContents();
+
+		WriteOption<SampleVO> iteratorOption = makeWriteOption("iterator.xlsx", 0, 0);
+		iteratorOption.setContents(contents.iterator());
+		assertFile(ExcelWrite.write(iteratorOption), 3, 50);
+
+		WriteOption<SampleVO> streamOption = makeWriteOption("stream.xlsx", 0, 0);
+		streamOption.setContents(contents.stream());
+		assertFile(ExcelWrite.write(streamOption), 3, 50);
+
+		Iterator<SampleVO> source = contents.iterator();
+		WriteOption<SampleVO> supplierOption = makeWriteOption("supplier.xlsx", 0, 0);
+		supplierOption.setContents(() -> source.hasNext() ? source.next() : null);
+		assertFile(ExcelWrite.write(supplierOption), 3, 50);
+
+		// 원본 List 는 변경되지 않는다.
+		Assertions.assertEquals(50, contents.size());
+	}
+
+	@Test
+	@DisplayName("CSV, TSV(gzip) 파일 작성 테스트")
+	public void delimitedWriteTest() throws IOException {
+		WriteOption<SampleVO> csvOption = makeWriteOption("sample.csv", 0, 0);
+		csvOption.setContents(new SampleVO(1, "a,b"), new SampleVO(2, "say \"hi\""), new SampleVO(3, null));
+		File csv = ExcelWrite.write(csvOption);
+		Assertions.assertEquals("번호,이름\r\n1,\"a,b\"\r\n2,\"say \"\"hi\"\"\"\r\n3,\r\n",
+				Files.readString(csv.toPath(), StandardCharsets.UTF_8));
+
+		WriteOption<SampleVO> tsvOption = makeWriteOption("sample.tsv.gz", 0, 0);
+		tsvOption.setContents(new SampleVO(1, "a,b"), new SampleVO(2, "tab\tvalue"));
+		File tsv = ExcelWrite.write(tsvOption);
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(tsv.toPath()))) {
+			Assertions.assertEquals("번호\t이름\r\n1\ta,b\r\n2\t\"tab\tvalue\"\r\n",
+					new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+
+		// 수식으로 실행될 수 있는 값은 escapeFormula 가 true 일 때만 ' 를 붙인다. (숫자 컬럼은 그대로)
+		WriteOption<SampleVO> formulaOption = makeWriteOption("formula.csv", 0, 0);
+		formulaOption.setContents(new SampleVO(-1, "=1+2"), new SampleVO(2, "+cmd"), new SampleVO(3, "-5"),
+				new SampleVO(4, "@SUM(A1)"), new SampleVO(5, "\tx"), new SampleVO(6, "a=b"));
+		Assertions.assertEquals("번호,이름\r\n-1,=1+2\r\n2,+cmd\r\n3,-5\r\n4,@SUM(A1)\r\n5,\tx\r\n6,a=b\r\n",
+				Files.readString(ExcelWrite.write(formulaOption).toPath(), StandardCharsets.UTF_8));
+
+		formulaOption.setEscapeFormula(true);
+		Assertions.assertEquals("번호,이름\r\n-1,'=1+2\r\n2,'+cmd\r\n3,'-5\r\n4,'@SUM(A1)\r\n5,'\tx\r\n6,a=b\r\n",
+				Files.readString(ExcelWrite.write(formulaOption).toPath(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("여러 Sheet로 나눠 동시에 작성한 결과가 차례로 작성한 결과와 같은지 테스트")
+	public void parallelPartitionTest() throws IOException {
+		int rowCount = 2500;
+
+		WriteOption<SampleVO> sequentialOption = makeWriteOption("sequential.xlsx", 0, rowCount);
+		sequentialOption.setSheetPartitionSize(1000);
+		File sequential = ExcelWrite.write(sequentialOption);
+
+		WriteOption<SampleVO> parallelOption = makeWriteOption("parallel.xlsx", 0, 0);
+		parallelOption.setContents(makeWriteOption("list.xlsx", 0, rowCount).getContents().iterator());
+		parallelOption.setSheetPartitionSize(1000);
+		parallelOption.setParallelism(4);
+		File parallel = ExcelWrite.write(parallelOption);
+
+		try (Workbook expected = WorkbookFactory.create(sequential, null, true);
+				Workbook actual = WorkbookFactory.create(parallel, null, true)) {
+			Assertions.assertEquals(3, actual.getNumberOfSheets());
+			Assertions.assertEquals("Sample_2", actual.getSheetName(1));
+			Assertions.assertEquals(expected.getNumCellStyles(), actual.getNumCellStyles());
+
+			int no = 0;
+			for (int s = 0; s < actual.getNumberOfSheets(); s++) {
+				Sheet expectedSheet = expected.getSheetAt(s);
+				Sheet actualSheet = actual.getSheetAt(s);
+				Assertions.assertEquals(expectedSheet.getSheetName(), actualSheet.getSheetName());
+				Assertions.assertEquals(expectedSheet.getLastRowNum(), actualSheet.getLastRowNum());
+				Assertions.assertEquals(expectedSheet.getColumnWidth(1), actualSheet.getColumnWidth(1));
+				Assertions.assertEquals("번호", actualSheet.getRow(0).getCell(0).getStringCellValue());
+				for (int i = 1; i <= actualSheet.getLastRowNum(); i++) {
+					Assertions.assertEquals(no, (int) actualSheet.getRow(i).getCell(0).getNumericCellValue());
+					Assertions.assertEquals(expectedSheet.getRow(i).getCell(1).getStringCellValue(),
+							actualSheet.getRow(i).getCell(1).getStringCellValue());
+					no++;
+				}
+			}
+			Assertions.assertEquals(rowCount, no);
+		}
+	}
+
+	@Test
+	@DisplayName("날짜 컬럼을 엑셀의 날짜 Cell로 작성하는지 테스트")
+	public void dateCellTest() throws IOException {
+		WriteOption<DateVO> writeOption = new WriteOption<>();
+		writeOption.setFileName("date.xlsx");
+		writeOption.setFilePath(tempDir.toString());
+		List<DateVO> contents = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			contents.add(new DateVO("2024-01-0" + (i + 1) + " 10:00:00", LocalDate.of(2024, 2, i + 1),
+					LocalDateTime.of(2024, 3, i + 1, 9, 30)));
+		}
+		contents.add(new DateVO(null, null, null));
+		writeOption.setContents(contents);
+
+		try (Workbook workbook = WorkbookFactory.create(ExcelWrite.write(writeOption), null, true)) {
+			Sheet sheet = workbook.getSheet("Date");
+			for (int i = 0; i < 3; i++) {
+				Row row = sheet.getRow(i + 1);
+				Assertions.assertEquals(CellType.NUMERIC, row.getCell(0).getCellType());
+				Assertions.assertTrue(DateUtil.isCellDateFormatted(row.getCell(0)));
+				Assertions.assertEquals(LocalDateTime.of(2024, 1, i + 1, 0, 0), row.getCell(0).getLocalDateTimeCellValue());
+				Assertions.assertEquals("yyyy.MM.dd", row.getCell(0).getCellStyle().getDataFormatString());
+				Assertions.assertEquals(LocalDateTime.of(2024, 2, i + 1, 0, 0), row.getCell(1).getLocalDateTimeCellValue());
+				Assertions.assertEquals("yyyy-MM-dd", row.getCell(1).getCellStyle().getDataFormatString());
+				Assertions.assertEquals(LocalDateTime.of(2024, 3, i + 1, 9, 30), row.getCell(2).getLocalDateTimeCellValue());
+				Assertions.assertEquals("yyyy-MM-dd HH:mm:ss", row.getCell(2).getCellStyle().getDataFormatString());
+			}
+			Assertions.assertEquals("", sheet.getRow(4).getCell(0).getStringCellValue());
+			Assertions.assertEquals((10 + 2) * 256, sheet.getColumnWidth(0));
+		}
+
+		writeOption.setFileName("date.csv");
+		File csv = ExcelWrite.write(writeOption);
+		Assertions.assertTrue(Files.readString(csv.toPath(), StandardCharsets.UTF_8)
+				.contains("2024.01.01,2024-02-01,2024-03-01 09:30:00\r\n"));
+	}
+
+	@Test
+	@DisplayName("날짜 컬럼의 값을 SimpleDateFormat 처럼 관대하게 해석하는지 테스트")
+	public void lenientDateTest() throws NoSuchFieldException {
+		Format format = DateVO.class.getDeclaredField("crtDt").getAnnotation(Format.class);
+
+		Assertions.assertEquals(LocalDateTime.of(2024, 1, 5, 0, 0), MakeDateTime.parse("2024-1-5", format));
+		Assertions.assertEquals(LocalDateTime.of(2024, 11, 25, 0, 0), MakeDateTime.parse("2024-11-25 10:00:00", format));
+		Assertions.assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), MakeDateTime.parse("2024-13-01", format));
+		Assertions.assertEquals("2024.01.05", MakeDateTime.make(" 2024-1-5 ", format));
+		Assertions.assertThrows(RuntimeException.class, () -> MakeDateTime.parse("2024/01/05", format));
+	}
+
+	private WriteOption<SampleVO> makeWriteOption(String fileName, int fileNo, int rowCount) {
+		List<SampleVO> contents = new ArrayList<>();
+		for (int i = 0; i < rowCount; i++) {
+			contents.add(new SampleVO(i, "file" + fileNo + "-row" + i));
+		}
+
+		WriteOption<SampleVO> writeOption = new WriteOption<>();
+		writeOption.setFileName(fileName);
+		writeOption.setFilePath(tempDir.toString());
+		if (!contents.isEmpty()) {
+			writeOption.setContents(contents);
+		}
+		return writeOption;
+	}
+
+	private void assertFile(File file, int fileNo, int rowCount) throws IOException {
+		try (Workbook workbook = WorkbookFactory.create(file, null, true)) {
+			Sheet sheet = workbook.getSheet("Sample");
+			Assertions.assertEquals(rowCount, sheet.getLastRowNum());
+			Assertions.assertEquals("번호", sheet.getRow(0).getCell(0).getStringCellValue());
+			// 기본 CellStyle 1개 + @Format 조합 2개 (RIGHT, LEFT)
+			Assertions.assertEquals(3, workbook.getNumCellStyles());
+			// 컬럼 너비 = 가장 긴 값의 너비 + 여백 2칸 (한글은 2칸)
+			Assertions.assertEquals((4 + 2) * 256, sheet.getColumnWidth(0));
+			Assertions.assertEquals((("file" + fileNo + "-row" + (rowCount - 1)).length() + 2) * 256,
+					sheet.getColumnWidth(1));
+			for (int i = 0; i < rowCount; i++) {
+				Assertions.assertEquals(i, (int) sheet.getRow(i + 1).getCell(0).getNumericCellValue());
+				Assertions.assertEquals("file" + fileNo + "-row" + i,
+						sheet.getRow(i + 1).getCell(1).getStringCellValue());
+			}
+		}
+	}
+
+	@ExcelSheet(value = "Date", useTitle = true)
+	public static class DateVO {
+
+		@Title(value = "등록일", date = true)
+		@Format(dataFormat = "yyyy-MM-dd", toDataFormat = "yyyy.MM.dd")
+		private String crtDt;
+
+		@Title("시작일")
+		private LocalDate startDate;
+
+		@Title("수정일시")
+		private LocalDateTime mdfyDt;
+
+		public DateVO() {
+		}
+
+		public DateVO(String crtDt, LocalDate startDate, LocalDateTime mdfyDt) {
+			this.crtDt = crtDt;
+			this.startDate = startDate;
+			this.mdfyDt = mdfyDt;
+		}
+	}
+
+	@ExcelSheet(value = "Sample", useTitle = true)
+	public static class SampleVO {
+
+		@Title("번호")
+		@Format(alignment = Format.RIGHT)
+		private int no;
+
+		@Title("이름")
+		@Format(alignment = Format.LEFT)
+		private String name;
+
+		public SampleVO() {
+		}
+
+		public SampleVO(int no, String name) {
+			this.no = no;
+			this.name = name;
+		}
+	}
+
+}